@@ -0,0 +1,387 @@
+package com.words.basesdk.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Generates streaming Jackson serializers and deserializers for the classes jsonschema2pojo builds from
+ * {@code src/main/resources/schema}, plus a module registering them. Class, accessor and enum names follow the
+ * jsonschema2pojo settings of this build (title as class name, NON_EMPTY inclusion, additional properties
+ * unless disabled), so a schema change that breaks the mapping fails compilation instead of binding.
+ *
+ * <p>Arguments: schema directory, output source directory, schema package, codec package.
+ */
+public class SchemaCodecGenerator {
+
+    private static final String MODULE_NAME = "SchemaCodecModule";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path schemaRoot;
+    private final String schemaPackage;
+    private final String codecPackage;
+    private final Map<String, Model> models = new LinkedHashMap<>();
+    private final Map<Path, JsonNode> documents = new HashMap<>();
+
+    SchemaCodecGenerator(Path schemaRoot, String schemaPackage, String codecPackage) {
+        this.schemaRoot = schemaRoot;
+        this.schemaPackage = schemaPackage;
+        this.codecPackage = codecPackage;
+    }
+
+    public static void main(String[] args) throws IOException {
+        SchemaCodecGenerator generator = new SchemaCodecGenerator(Path.of(args[0]), args[2], args[3]);
+        generator.load();
+        generator.write(Path.of(args[1]));
+    }
+
+    // ---- schema model ----
+
+    private enum Kind { STRING, INTEGER, LONG, DOUBLE, BOOLEAN, DATE, ENUM, OBJECT, LIST, ANY }
+
+    private record Type(Kind kind, String javaType, Model model, Type element) {
+        static Type of(Kind kind, String javaType) {
+            return new Type(kind, javaType, null, null);
+        }
+    }
+
+    private record Property(String name, Type type) {
+        String accessorSuffix() {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    private static final class Model {
+        final String simpleName;
+        final String qualifiedName;
+        final List<Property> properties = new ArrayList<>();
+        Model parent;
+        boolean additionalProperties;
+
+        Model(String packageName, String simpleName) {
+            this.simpleName = simpleName;
+            this.qualifiedName = packageName + "." + simpleName;
+        }
+
+        /** Own properties in schema order, then inherited ones, as Jackson orders them for these classes. */
+        List<Property> allProperties() {
+            List<Property> all = new ArrayList<>(properties);
+            for (Model m = parent; m != null; m = m.parent) {
+                all.addAll(m.properties);
+            }
+            return all;
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(schemaRoot)) {
+            files = walk.filter(f -> f.toString().endsWith(".json")).sorted().toList();
+        }
+        for (Path file : files) {
+            JsonNode root = document(file);
+            String baseName = file.getFileName().toString().replace(".json", "");
+            model(file, root, root.path("title").asText(capitalize(baseName)));
+        }
+    }
+
+    private JsonNode document(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        JsonNode node = documents.get(key);
+        if (node == null) {
+            node = mapper.readTree(key.toFile());
+            documents.put(key, node);
+        }
+        return node;
+    }
+
+    private String packageOf(Path file) {
+        Path dir = schemaRoot.toAbsolutePath().normalize().relativize(file.toAbsolutePath().normalize()).getParent();
+        return dir == null ? schemaPackage : schemaPackage + "." + dir.toString().replace('/', '.').replace('\\', '.');
+    }
+
+    private Model model(Path file, JsonNode schema, String name) throws IOException {
+        String qualifiedName = packageOf(file) + "." + name;
+        Model existing = models.get(qualifiedName);
+        if (existing != null) {
+            return existing;
+        }
+        if (!"object".equals(schema.path("type").asText())) {
+            throw new IllegalStateException(qualifiedName + ": only object schemas become classes");
+        }
+        Model model = new Model(packageOf(file), name);
+        if (models.values().stream().anyMatch(m -> m.simpleName.equals(name))) {
+            throw new IllegalStateException(qualifiedName + ": codec names are derived from simple class names and must be unique");
+        }
+        models.put(qualifiedName, model);
+        model.additionalProperties = !schema.path("additionalProperties").isBoolean()
+                || schema.path("additionalProperties").asBoolean();
+        if (schema.has("extends")) {
+            model.parent = resolve(file, schema.get("extends")).model();
+        }
+        for (Map.Entry<String, JsonNode> property : schema.path("properties").properties()) {
+            model.properties.add(new Property(property.getKey(), type(file, property.getValue(), model, property.getKey())));
+        }
+        return model;
+    }
+
+    private Type resolve(Path file, JsonNode schema) throws IOException {
+        String ref = schema.get("$ref").asText();
+        int hash = ref.indexOf('#');
+        Path target = hash == 0 ? file : file.resolveSibling(hash < 0 ? ref : ref.substring(0, hash)).normalize();
+        JsonNode node = document(target);
+        String name = null;
+        if (hash >= 0 && hash < ref.length() - 1) {
+            for (String segment : ref.substring(hash + 2).split("/")) {
+                node = node.path(segment);
+                name = segment;
+            }
+        }
+        if (name == null) {
+            String baseName = target.getFileName().toString().replace(".json", "");
+            name = node.path("title").asText(capitalize(baseName));
+        } else {
+            name = node.path("title").asText(name);
+        }
+        Model model = model(target, node, name);
+        return new Type(Kind.OBJECT, model.qualifiedName, model, null);
+    }
+
+    private Type type(Path file, JsonNode schema, Model owner, String propertyName) throws IOException {
+        if (schema.has("$ref")) {
+            return resolve(file, schema);
+        }
+        if (schema.has("existingJavaType")) {
+            String javaType = schema.get("existingJavaType").asText();
+            return switch (javaType) {
+                case "java.lang.Long" -> Type.of(Kind.LONG, javaType);
+                case "java.lang.Integer" -> Type.of(Kind.INTEGER, javaType);
+                case "java.lang.Double" -> Type.of(Kind.DOUBLE, javaType);
+                case "java.lang.String" -> Type.of(Kind.STRING, javaType);
+                default -> Type.of(Kind.ANY, javaType);
+            };
+        }
+        String type = schema.path("type").asText();
+        return switch (type) {
+            case "string" -> {
+                if (schema.has("enum")) {
+                    yield Type.of(Kind.ENUM, owner.qualifiedName + "." + capitalize(propertyName));
+                }
+                yield "date-time".equals(schema.path("format").asText())
+                        ? Type.of(Kind.DATE, "java.util.Date") : Type.of(Kind.STRING, "String");
+            }
+            case "integer" -> Type.of(Kind.INTEGER, "Integer");
+            case "number" -> Type.of(Kind.DOUBLE, "Double");
+            case "boolean" -> Type.of(Kind.BOOLEAN, "Boolean");
+            case "array" -> {
+                Type element = type(file, schema.path("items"), owner, propertyName);
+                yield new Type(Kind.LIST, "java.util.List<" + element.javaType() + ">", null, element);
+            }
+            default -> throw new IllegalStateException(owner.qualifiedName + "." + propertyName
+                    + ": unsupported schema type '" + type + "'");
+        };
+    }
+
+    private static String capitalize(String s) {
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    // ---- code generation ----
+
+    private void write(Path outputRoot) throws IOException {
+        Path dir = outputRoot.resolve(codecPackage.replace('.', '/'));
+        Files.createDirectories(dir);
+        for (Model model : models.values()) {
+            Files.writeString(dir.resolve(codecName(model) + ".java"), codec(model));
+        }
+        Files.writeString(dir.resolve(MODULE_NAME + ".java"), module());
+    }
+
+    private static String codecName(Model model) {
+        return model.simpleName + "Codec";
+    }
+
+    private static String constantName(String property) {
+        return property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private String header() {
+        return "package " + codecPackage + ";\n\n"
+                + "import com.fasterxml.jackson.core.JsonGenerator;\n"
+                + "import com.fasterxml.jackson.core.JsonParser;\n"
+                + "import com.fasterxml.jackson.core.JsonToken;\n"
+                + "import com.fasterxml.jackson.core.SerializableString;\n"
+                + "import com.fasterxml.jackson.core.io.SerializedString;\n"
+                + "import com.fasterxml.jackson.databind.DeserializationContext;\n"
+                + "import com.fasterxml.jackson.databind.SerializerProvider;\n"
+                + "import com.fasterxml.jackson.databind.deser.std.StdDeserializer;\n"
+                + "import com.fasterxml.jackson.databind.ser.std.StdSerializer;\n\n"
+                + "import javax.annotation.processing.Generated;\n"
+                + "import java.io.IOException;\n\n";
+    }
+
+    private String codec(Model model) {
+        String type = model.qualifiedName;
+        StringBuilder out = new StringBuilder(header());
+        out.append("/**\n * Streaming codec for {@link ").append(type).append("}, generated from the JSON schema.\n */\n");
+        out.append("@Generated(\"").append(getClass().getName()).append("\")\n");
+        out.append("public final class ").append(codecName(model)).append(" {\n\n");
+        for (Property property : model.allProperties()) {
+            out.append("    private static final SerializableString ").append(constantName(property.name()))
+                    .append(" = new SerializedString(\"").append(property.name()).append("\");\n");
+        }
+        out.append("\n    public static final Serializer SERIALIZER = new Serializer();\n");
+        out.append("    public static final Deserializer DESERIALIZER = new Deserializer();\n\n");
+        out.append("    private ").append(codecName(model)).append("() {\n    }\n\n");
+
+        out.append("    public static final class Serializer extends StdSerializer<").append(type).append("> {\n\n");
+        out.append("        private Serializer() {\n            super(").append(type).append(".class);\n        }\n\n");
+        out.append("        @Override\n        public void serialize(").append(type)
+                .append(" value, JsonGenerator gen, SerializerProvider provider) throws IOException {\n");
+        out.append("            gen.writeStartObject(value);\n");
+        for (Property property : model.allProperties()) {
+            out.append("            ").append(writeStatement(property)).append("\n");
+        }
+        if (model.additionalProperties) {
+            out.append("            CodecSupport.writeAdditional(gen, value.getAdditionalProperties(), provider);\n");
+        }
+        out.append("            gen.writeEndObject();\n        }\n    }\n\n");
+
+        out.append("    public static final class Deserializer extends StdDeserializer<").append(type).append("> {\n\n");
+        out.append("        private Deserializer() {\n            super(").append(type).append(".class);\n        }\n\n");
+        if (!model.additionalProperties) {
+            StringJoiner names = new StringJoiner(", ");
+            model.allProperties().forEach(property -> names.add("\"" + property.name() + "\""));
+            out.append("        @Override\n        public java.util.Collection<Object> getKnownPropertyNames() {\n");
+            out.append("            return java.util.List.of(").append(names).append(");\n        }\n\n");
+        }
+        out.append("        @Override\n        public ").append(type)
+                .append(" deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {\n");
+        out.append("            JsonToken t = p.currentToken();\n");
+        out.append("            String name;\n");
+        out.append("            if (t == JsonToken.START_OBJECT) {\n                name = p.nextFieldName();\n");
+        out.append("            } else if (t == JsonToken.FIELD_NAME) {\n");
+        out.append("                name = p.currentName();\n");
+        out.append("            } else if (t == JsonToken.END_OBJECT) {\n");
+        out.append("                name = null;\n");
+        out.append("            } else {\n");
+        out.append("                return (").append(type).append(") CodecSupport.readNonObject(p, ctxt, ").append(type)
+                .append(".class);\n            }\n");
+        out.append("            ").append(type).append(" bean = new ").append(type).append("();\n");
+        out.append("            for (; name != null; name = p.nextFieldName()) {\n");
+        out.append("                p.nextToken();\n");
+        out.append("                try {\n");
+        out.append("                    switch (name) {\n");
+        for (Property property : model.allProperties()) {
+            out.append("                        case \"").append(property.name()).append("\" -> bean.set")
+                    .append(property.accessorSuffix()).append("(").append(readExpression(property.type())).append(");\n");
+        }
+        if (model.additionalProperties) {
+            out.append("                        default -> bean.setAdditionalProperty(name, CodecSupport.readAny(p, ctxt));\n");
+        } else {
+            out.append("                        default -> ctxt.handleUnknownProperty(p, this, bean, name);\n");
+        }
+        out.append("                    }\n");
+        out.append("                } catch (Exception e) {\n");
+        out.append("                    throw CodecSupport.wrap(e, bean, name, ctxt);\n");
+        out.append("                }\n            }\n            return bean;\n        }\n    }\n}\n");
+        return out.toString();
+    }
+
+    private String writeStatement(Property property) {
+        String name = constantName(property.name());
+        String value = "value.get" + property.accessorSuffix() + "()";
+        Type type = property.type();
+        return switch (type.kind()) {
+            case STRING -> "CodecSupport.writeString(gen, " + name + ", " + value + ");";
+            case INTEGER -> "CodecSupport.writeInteger(gen, " + name + ", " + value + ");";
+            case LONG -> "CodecSupport.writeLong(gen, " + name + ", " + value + ");";
+            case DOUBLE -> "CodecSupport.writeDouble(gen, " + name + ", " + value + ");";
+            case BOOLEAN -> "CodecSupport.writeBoolean(gen, " + name + ", " + value + ");";
+            case DATE -> "CodecSupport.writeDate(gen, " + name + ", " + value + ", provider);";
+            case ENUM -> "CodecSupport.writeEnumValue(gen, " + name + ", " + value + " == null ? null : "
+                    + value + ".value());";
+            case OBJECT -> "CodecSupport.writeObject(gen, " + name + ", " + value + ", " + type.javaType()
+                    + ".class, " + codecName(type.model()) + ".SERIALIZER, provider);";
+            case LIST -> "CodecSupport.writeList(gen, " + name + ", " + value + ", " + elementWriter(type.element())
+                    + ", provider);";
+            case ANY -> "if (" + value + " != null) provider.defaultSerializeField(\"" + property.name() + "\", "
+                    + value + ", gen);";
+        };
+    }
+
+    private String elementWriter(Type element) {
+        return switch (element.kind()) {
+            case STRING -> "(v, g, sp) -> g.writeString(v)";
+            case INTEGER, LONG, DOUBLE -> "(v, g, sp) -> g.writeNumber(v)";
+            case BOOLEAN -> "(v, g, sp) -> g.writeBoolean(v)";
+            case DATE -> "(v, g, sp) -> sp.defaultSerializeDateValue(v, g)";
+            case ENUM -> "(v, g, sp) -> g.writeString(v.value())";
+            case OBJECT -> "(v, g, sp) -> CodecSupport.writeValue(v, " + element.javaType() + ".class, "
+                    + codecName(element.model()) + ".SERIALIZER, g, sp)";
+            case LIST, ANY -> "(v, g, sp) -> sp.defaultSerializeValue(v, g)";
+        };
+    }
+
+    private String readExpression(Type type) {
+        return readExpression(type, "p", "ctxt");
+    }
+
+    private String readExpression(Type type, String p, String ctxt) {
+        String args = "(" + p + ", " + ctxt;
+        return switch (type.kind()) {
+            case STRING -> "CodecSupport.readString" + args + ")";
+            case INTEGER -> "CodecSupport.readInteger" + args + ")";
+            case LONG -> "CodecSupport.readLong" + args + ")";
+            case DOUBLE -> "CodecSupport.readDouble" + args + ")";
+            case BOOLEAN -> "CodecSupport.readBoolean" + args + ")";
+            case DATE -> "CodecSupport.readDate" + args + ")";
+            case ENUM -> "CodecSupport.readEnum" + args + ", " + type.javaType() + ".class, " + type.javaType() + "::fromValue)";
+            case OBJECT -> "CodecSupport.readObject" + args + ", " + type.javaType() + ".class, "
+                    + codecName(type.model()) + ".DESERIALIZER)";
+            case LIST -> "CodecSupport.readList" + args + ", " + rawType(type.element()) + ".class, (" + p + "e, " + ctxt
+                    + "e) -> " + readExpression(type.element(), p + "e", ctxt + "e") + ")";
+            case ANY -> ctxt + ".readValue(" + p + ", " + type.javaType() + ".class)";
+        };
+    }
+
+    private static String rawType(Type type) {
+        return type.kind() == Kind.LIST ? "java.util.List" : type.javaType();
+    }
+
+    private String module() {
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(codecPackage).append(";\n\n");
+        out.append("import com.fasterxml.jackson.databind.JsonDeserializer;\n");
+        out.append("import com.fasterxml.jackson.databind.JsonSerializer;\n");
+        out.append("import com.fasterxml.jackson.databind.module.SimpleModule;\n\n");
+        out.append("import javax.annotation.processing.Generated;\n");
+        out.append("import java.util.Map;\n\n");
+        out.append("/**\n * Registers the generated codecs for every schema class.\n */\n");
+        out.append("@Generated(\"").append(getClass().getName()).append("\")\n");
+        out.append("public final class ").append(MODULE_NAME).append(" extends SimpleModule {\n\n");
+        out.append("    private static final Map<Class<?>, JsonSerializer<?>> SERIALIZERS = Map.ofEntries(\n");
+        out.append(entries("SERIALIZER")).append(");\n\n");
+        out.append("    private static final Map<Class<?>, JsonDeserializer<?>> DESERIALIZERS = Map.ofEntries(\n");
+        out.append(entries("DESERIALIZER")).append(");\n\n");
+        out.append("    public ").append(MODULE_NAME).append("() {\n        super(\"").append(MODULE_NAME).append("\");\n    }\n\n");
+        out.append("    @Override\n    public void setupModule(SetupContext context) {\n");
+        out.append("        super.setupModule(context);\n");
+        out.append("        context.addSerializers(CodecSupport.exactSerializers(SERIALIZERS));\n");
+        out.append("        context.addDeserializers(CodecSupport.exactDeserializers(DESERIALIZERS));\n    }\n}\n");
+        return out.toString();
+    }
+
+    private String entries(String field) {
+        StringJoiner joiner = new StringJoiner(",\n");
+        for (Model model : models.values()) {
+            joiner.add("            Map.entry(" + model.qualifiedName + ".class, " + codecName(model) + "." + field + ")");
+        }
+        return joiner.toString();
+    }
+}
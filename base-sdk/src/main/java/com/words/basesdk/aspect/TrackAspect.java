@@ -2,6 +2,11 @@ package com.words.basesdk.aspect;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.basesdk.durability.DurabilityTiers;
+import com.words.basesdk.durability.TieredKafkaTemplates;
+import com.words.basesdk.jfr.TrackLogPublishEvent;
+import com.words.basesdk.metrics.StageTimers;
+import com.words.basesdk.metrics.TrackLogPipelineMetrics;
 import com.words.basesdk.model.TrackLog;
 import com.words.schema.base.BaseRes;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +18,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -24,6 +28,9 @@ import java.time.Instant;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static com.words.basesdk.metrics.StageTimers.*;
+import static com.words.basesdk.util.BaseSDKConstants.WARMUP_REQUEST_ATTRIBUTE;
+
 @Slf4j
 @Aspect
 @Component
@@ -31,9 +38,12 @@ import java.util.stream.Collectors;
 public class TrackAspect {
 
     private final ObjectMapper objectMapper;
+    private final StageTimers stageTimers;
+    private final TrackLogPipelineMetrics pipelineMetrics;
+    private final DurabilityTiers durabilityTiers;
 
     @Autowired
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private TieredKafkaTemplates kafkaTemplates;
 
     @Value("${track.kafka.topic:words.track.aspect}")
     String trackLogTopicName;
@@ -41,6 +51,8 @@ public class TrackAspect {
     @Around("@annotation(track)")
     public Object around(ProceedingJoinPoint point, Track track) throws Throwable {
 
+        long start = stageTimers.start();
+        String controller = point.getSignature().getDeclaringType().getSimpleName();
         Instant requestTs = Instant.now();
         String uniqueId = UUID.randomUUID().toString();
         ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -59,7 +71,13 @@ public class TrackAspect {
             }
         }
 
-        Object responseObj = point.proceed();
+        Object responseObj;
+        try {
+            responseObj = point.proceed();
+        } catch (Throwable e) {
+            stageTimers.recordSince(controller, STAGE_TRACK, OUTCOME_EXCEPTION, start);
+            throw e;
+        }
         Object responseBody = responseObj;
         if (responseObj instanceof ResponseEntity<?> entity) {
             responseBody = entity.getBody();
@@ -80,15 +98,33 @@ public class TrackAspect {
                 .executionTimeMs(executionTimeMs)
                 .severity(severity)
                 .build();
-        log.info(trackLog.toString());
-        publishTrackLog(trackLog);
+        // Synthetic warm-up requests must not reach the track_logs collection
+        if (request.getAttribute(WARMUP_REQUEST_ATTRIBUTE) == null) {
+            log.info(trackLog.toString());
+            publishTrackLog(trackLog, controller);
+        }
+        stageTimers.recordSince(controller, STAGE_TRACK, "ERROR".equals(severity) ? OUTCOME_ERROR : OUTCOME_SUCCESS, start);
         return responseObj;
     }
 
-    private void publishTrackLog(TrackLog logObj) {
+    private void publishTrackLog(TrackLog logObj, String controller) {
+        long start = stageTimers.start();
+        String tier = durabilityTiers.tierOf(logObj.getSeverity());
+        long sendStart = System.nanoTime();
+        TrackLogPublishEvent publishEvent = TrackLogPublishEvent.start(logObj.getServiceName(), logObj.getSeverity(),
+                tier, trackLogTopicName);
         try {
-            kafkaTemplate.send(trackLogTopicName, logObj);
+            pipelineMetrics.markPublished(logObj);
+            kafkaTemplates.forTier(tier).send(trackLogTopicName, logObj)
+                    .whenComplete((result, failure) -> {
+                        durabilityTiers.recordWrite(tier, DurabilityTiers.SINK_KAFKA, failure == null, sendStart);
+                        publishEvent.finish(failure == null ? OUTCOME_SUCCESS : OUTCOME_EXCEPTION);
+                    });
+            stageTimers.recordSince(controller, STAGE_PUBLISH, OUTCOME_SUCCESS, start);
         } catch (Exception e) {
+            durabilityTiers.recordWrite(tier, DurabilityTiers.SINK_KAFKA, false, sendStart);
+            publishEvent.finish(OUTCOME_EXCEPTION);
+            stageTimers.recordSince(controller, STAGE_PUBLISH, OUTCOME_EXCEPTION, start);
             log.error("Failed to publish TrackLog to Kafka", e);
         }
     }
@@ -0,0 +1,294 @@
+package com.words.basesdk.codec;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerFactory;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read and write helpers shared by the generated schema codecs. Common tokens are handled inline; anything
+ * else (coercions, unexpected tokens) is passed to the regular Jackson deserializer for the type, so error
+ * handling and mapper features behave as they do with bean introspection.
+ */
+final class CodecSupport {
+
+    private CodecSupport() {
+    }
+
+    @FunctionalInterface
+    interface ValueReader<T> {
+        T read(JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface ValueWriter<T> {
+        void write(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+    }
+
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);
+    }
+
+    static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+            return p.getIntValue();
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Integer.class);
+    }
+
+    static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return p.getLongValue();
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Long.class);
+    }
+
+    static Double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getDoubleValue();
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Double.class);
+    }
+
+    static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_TRUE || t == JsonToken.VALUE_FALSE) {
+            return t == JsonToken.VALUE_TRUE;
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Boolean.class);
+    }
+
+    static Date readDate(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Date.class);
+    }
+
+    static Object readAny(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Object.class);
+    }
+
+    static <E extends Enum<E>> E readEnum(JsonParser p, DeserializationContext ctxt, Class<E> type,
+                                          Function<String, E> fromValue) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            String text = p.getText();
+            try {
+                return fromValue.apply(text);
+            } catch (IllegalArgumentException e) {
+                return type.cast(ctxt.handleInstantiationProblem(type, text, e));
+            }
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+    }
+
+    static <T> T readObject(JsonParser p, DeserializationContext ctxt, Class<T> type, JsonDeserializer<T> codec)
+            throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            return codec.deserialize(p, ctxt);
+        }
+        return t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+    }
+
+    static <E> List<E> readList(JsonParser p, DeserializationContext ctxt, Class<E> elementType,
+                                ValueReader<E> element) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t != JsonToken.START_ARRAY) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructCollectionType(List.class, elementType));
+        }
+        List<E> list = new ArrayList<>();
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            try {
+                list.add(t == JsonToken.VALUE_NULL ? null : element.read(p, ctxt));
+            } catch (Exception e) {
+                if (!ctxt.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS)) {
+                    ClassUtil.throwIfRTE(e);
+                }
+                throw JsonMappingException.wrapWithPath(e, list, list.size());
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Scalars and arrays where an object is expected are rare and mostly errors. They are handed to a standard
+     * bean deserializer, built per call so that creators, coercion settings and messages match exactly.
+     */
+    static Object readNonObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JavaType javaType = ctxt.constructType(type);
+        JsonDeserializer<Object> deserializer = BeanDeserializerFactory.instance
+                .buildBeanDeserializer(ctxt, javaType, ctxt.getConfig().introspect(javaType));
+        if (deserializer instanceof ResolvableDeserializer resolvable) {
+            resolvable.resolve(ctxt);
+        }
+        return deserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * Adds the property path to a failure the way bean deserialization does.
+     */
+    static IOException wrap(Throwable t, Object bean, String name, DeserializationContext ctxt) throws IOException {
+        ClassUtil.throwIfError(t);
+        boolean wrap = ctxt.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS);
+        if (t instanceof IOException io) {
+            if (!wrap || !(t instanceof JacksonException)) {
+                throw io;
+            }
+        } else if (!wrap) {
+            ClassUtil.throwIfRTE(t);
+        }
+        if (t instanceof JsonMappingException mapping && isAt(mapping, bean, name)) {
+            return mapping;
+        }
+        return JsonMappingException.wrapWithPath(t, bean, name);
+    }
+
+    private static boolean isAt(JsonMappingException e, Object bean, String name) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        return !path.isEmpty() && path.get(0).getFrom() == bean && name.equals(path.get(0).getFieldName());
+    }
+
+    // Fields follow the NON_EMPTY inclusion of the generated classes: null, "" and [] are left out
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    static void writeInteger(JsonGenerator gen, SerializableString name, Integer value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    static void writeLong(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    static void writeDouble(JsonGenerator gen, SerializableString name, Double value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeBoolean(value);
+        }
+    }
+
+    static void writeDate(JsonGenerator gen, SerializableString name, Date value, SerializerProvider provider)
+            throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeDateValue(value, gen);
+        }
+    }
+
+    static void writeEnumValue(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    static <T> void writeObject(JsonGenerator gen, SerializableString name, T value, Class<T> type,
+                                JsonSerializer<T> codec, SerializerProvider provider) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            writeValue(value, type, codec, gen, provider);
+        }
+    }
+
+    /**
+     * Subclasses of a schema type are not known to its codec, so they go through their own serializer.
+     */
+    static <T> void writeValue(T value, Class<T> type, JsonSerializer<T> codec, JsonGenerator gen,
+                               SerializerProvider provider) throws IOException {
+        if (value.getClass() == type) {
+            codec.serialize(value, gen, provider);
+        } else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+
+    static <E> void writeList(JsonGenerator gen, SerializableString name, List<E> values, ValueWriter<E> element,
+                              SerializerProvider provider) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeStartArray(values, values.size());
+        for (E value : values) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                element.write(value, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    static void writeAdditional(JsonGenerator gen, Map<String, Object> additional, SerializerProvider provider)
+            throws IOException {
+        if (additional == null || additional.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : additional.entrySet()) {
+            provider.defaultSerializeField(entry.getKey(), entry.getValue(), gen);
+        }
+    }
+
+    /**
+     * Codecs are registered for their exact class only; subclasses keep bean introspection.
+     */
+    static Serializers exactSerializers(Map<Class<?>, JsonSerializer<?>> serializers) {
+        return new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                return serializers.get(type.getRawClass());
+            }
+        };
+    }
+
+    static Deserializers exactDeserializers(Map<Class<?>, JsonDeserializer<?>> deserializers) {
+        return new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                                                            BeanDescription beanDesc) {
+                return deserializers.get(type.getRawClass());
+            }
+        };
+    }
+}
@@ -3,9 +3,14 @@ package com.words.basesdk.configuration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.words.basesdk.codec.SchemaCodecModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Shared Jackson 2 mapper. The com.words.schema classes are bound by build-time generated codecs
+ * (SchemaCodecModule) rather than by reflective bean introspection.
+ */
 @Configuration
 public class JacksonConfig {
 
@@ -13,6 +18,7 @@ public class JacksonConfig {
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new SchemaCodecModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return mapper;
     }
@@ -1,5 +1,7 @@
 package com.words.basesdk.configuration;
 
+import com.words.basesdk.durability.DurabilityProperties;
+import com.words.basesdk.durability.TieredKafkaTemplates;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -20,13 +22,17 @@ import java.util.Map;
 @Configuration
 @EnableConfigurationProperties({
         KafkaProducerProperties.class,
-        KafkaConsumerProperties.class
+        KafkaConsumerProperties.class,
+        DurabilityProperties.class
 })
 public class KafkaConfiguration {
 
     @Bean
     public ProducerFactory<String, Object> producerFactory(KafkaProducerProperties props, ObjectMapper mapper) {
+        return newProducerFactory(producerConfig(props), mapper);
+    }
 
+    private Map<String, Object> producerConfig(KafkaProducerProperties props) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, props.getBootstrapServers());
         config.put(ProducerConfig.ACKS_CONFIG, props.getAcks());
@@ -38,8 +44,10 @@ public class KafkaConfiguration {
         config.put("security.protocol", props.getSecurityProtocol());
         config.put("sasl.mechanism", props.getSaslMechanism());
         config.put("sasl.jaas.config", props.getSaslJaasConfig());
+        return config;
+    }
 
-
+    private ProducerFactory<String, Object> newProducerFactory(Map<String, Object> config, ObjectMapper mapper) {
         return new DefaultKafkaProducerFactory<>(
                 config,
                 new StringSerializer(),
@@ -49,11 +57,44 @@ public class KafkaConfiguration {
 
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> pf) {
+        return newKafkaTemplate(pf);
+    }
+
+    private KafkaTemplate<String, Object> newKafkaTemplate(ProducerFactory<String, Object> pf) {
         KafkaTemplate<String, Object> template = new KafkaTemplate<>(pf);
         template.setMessageConverter(new StringJsonMessageConverter());
         return template;
     }
 
+    /**
+     * A producer per durability tier that overrides acks or batching; the others share the default producer.
+     */
+    @Bean
+    public TieredKafkaTemplates tieredKafkaTemplates(KafkaProducerProperties props, DurabilityProperties durability,
+                                                     ObjectMapper mapper, KafkaTemplate<String, Object> kafkaTemplate) {
+        Map<String, KafkaTemplate<String, Object>> templates = new HashMap<>();
+        if (durability.isEnabled()) {
+            durability.getTiers().forEach((name, tier) -> {
+                if (tier.getAcks() == null && tier.getBatchSize() == null && tier.getLingerMs() == null) {
+                    return;
+                }
+                Map<String, Object> config = producerConfig(props);
+                if (tier.getAcks() != null) {
+                    config.put(ProducerConfig.ACKS_CONFIG, tier.getAcks());
+                }
+                if (tier.getBatchSize() != null) {
+                    config.put(ProducerConfig.BATCH_SIZE_CONFIG, tier.getBatchSize());
+                }
+                if (tier.getLingerMs() != null) {
+                    config.put(ProducerConfig.LINGER_MS_CONFIG, tier.getLingerMs());
+                }
+                config.put(ProducerConfig.CLIENT_ID_CONFIG, "track-" + name);
+                templates.put(name, newKafkaTemplate(newProducerFactory(config, mapper)));
+            });
+        }
+        return new TieredKafkaTemplates(kafkaTemplate, templates);
+    }
+
 
     @Bean
     public ConsumerFactory<String, Object> consumerFactory(KafkaConsumerProperties props, ObjectMapper mapper) {
@@ -5,8 +5,11 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.words.basesdk.converter.*;
+import com.words.basesdk.durability.DurabilityTiers;
 import com.words.basesdk.util.EncryptionDecryptionUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +18,10 @@ import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 
 @Configuration
 @Slf4j
@@ -32,6 +39,15 @@ public class MongoDBConfig extends AbstractMongoClientConfiguration {
     @Value("${spring.mongodb.encryptPassword}")
     private String mongoPassword;
 
+    /**
+     * Full connection string overriding host/username/password, e.g. a local mongod for load tests.
+     */
+    @Value("${spring.mongodb.connection-uri:}")
+    private String connectionUri;
+
+    @Autowired
+    private DurabilityTiers durabilityTiers;
+
     @Bean
     @Override
     public MongoDatabaseFactory mongoDbFactory() {
@@ -43,32 +59,68 @@ public class MongoDBConfig extends AbstractMongoClientConfiguration {
         return databaseName;
     }
 
+    /**
+     * Shared connection settings, also used by services that build a reactive client next to the blocking one.
+     */
     @Bean
     @Override
-    public MongoClient mongoClient() {
-        try {
-
-            //String decryptedPassword = EncryptionDecryptionUtil.decrypt(mongoPassword);
+    public MongoClientSettings mongoClientSettings() {
+        //String decryptedPassword = EncryptionDecryptionUtil.decrypt(mongoPassword);
 
-            ConnectionString connectionString = new ConnectionString(
-                    "mongodb+srv://" + mongoUsername + ":" + mongoPassword + "@" + mongoHost + "/?retryWrites=true&w=majority&appName=Cluster0"
-            );
+        ConnectionString connectionString = new ConnectionString(!connectionUri.isBlank() ? connectionUri :
+                "mongodb+srv://" + mongoUsername + ":" + mongoPassword + "@" + mongoHost + "/?retryWrites=true&w=majority&appName=Cluster0"
+        );
 
-            MongoClientSettings settings = MongoClientSettings.builder()
-                    .applyConnectionString(connectionString)
-                    .retryWrites(true)
-                    .build();
-
-            return MongoClients.create(settings);
+        return MongoClientSettings.builder()
+                .applyConnectionString(connectionString)
+                .retryWrites(true)
+                .build();
+    }
 
+    @Bean
+    @Override
+    public MongoClient mongoClient() {
+        try {
+            return MongoClients.create(mongoClientSettings());
         } catch (Exception e) {
             throw new RuntimeException("Error creating MongoClient", e);
         }
     }
 
+    /**
+     * Compact TrackLog body codecs; the document reader also understands the legacy full-name layout.
+     */
+    @Override
+    protected void configureConverters(MongoCustomConversions.MongoConverterConfigurationAdapter adapter) {
+        adapter.registerConverter(new ReverseSentenceReqWriteConverter());
+        adapter.registerConverter(new ReverseSentenceReqReadConverter());
+        adapter.registerConverter(new ReverseSentenceResWriteConverter());
+        adapter.registerConverter(new ReverseSentenceResReadConverter());
+        adapter.registerConverter(new TrackLogDocumentReadConverter());
+    }
+
+    /**
+     * Every stored type is known up front, so documents are written without a {@code _class} hint.
+     */
+    @Bean
+    @Override
+    public MappingMongoConverter mappingMongoConverter(MongoDatabaseFactory databaseFactory,
+                                                       MongoCustomConversions customConversions,
+                                                       MongoMappingContext mappingContext) {
+        MappingMongoConverter converter = super.mappingMongoConverter(databaseFactory, customConversions, mappingContext);
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        return converter;
+    }
+
+    /**
+     * The connection string's majority write concern stays the default; TrackLog writes follow their durability tier.
+     */
     @Bean
     @Primary
-    public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(mongoDbFactory());
+    @Override
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MappingMongoConverter converter) {
+        MongoTemplate template = new MongoTemplate(databaseFactory, converter);
+        template.setWriteConcernResolver(durabilityTiers);
+        return template;
     }
 }
@@ -1,26 +1,164 @@
 package com.words.basesdk.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.basesdk.aspect.Track;
 import com.words.basesdk.model.CachedBodyHttpServletRequest;
-import jakarta.servlet.*;
+import com.words.schema.base.BaseRes;
+import com.words.schema.base.Error;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.context.annotation.Configuration;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
-@Configuration
+import static com.words.basesdk.util.BaseSDKConstants.PAYLOAD_TOO_LARGE_ERROR_CODE;
+
+/**
+ * Caches the body of @Track endpoints, whose body is read twice (by TrackAspect and by the controller).
+ * Every other route, actuator probes included, passes through untouched. Bodies are read with bulk reads
+ * into buffers borrowed from a small pool and returned once the request completes; bodies above
+ * {@code max-body-bytes} are rejected with 413 before they are buffered.
+ */
+@Slf4j
+@Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
-public class RequestCachingFilterConfig implements Filter {
+public class RequestCachingFilterConfig extends OncePerRequestFilter {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private final ObjectMapper objectMapper;
+    private volatile List<PathPattern> trackedPatterns = List.of();
+    private BlockingQueue<byte[]> bufferPool;
+
+    @Value("${track.request-cache.max-body-bytes:262144}")
+    int maxBodyBytes;
+
+    @Value("${track.request-cache.buffer-bytes:8192}")
+    int bufferBytes;
+
+    @Value("${track.request-cache.pool-size:64}")
+    int poolSize;
+
+    public RequestCachingFilterConfig(
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+            ObjectMapper objectMapper) {
+        this.handlerMapping = handlerMapping;
+        this.objectMapper = objectMapper;
+    }
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-        if (request instanceof HttpServletRequest httpRequest) {
-            CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(httpRequest);
-            chain.doFilter(cachedRequest, response);
-        } else {
-            chain.doFilter(request, response);
+    protected void initFilterBean() {
+        bufferPool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    /**
+     * Collects the path patterns of handler methods annotated with {@link Track}.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void resolveTrackedRoutes() {
+        RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+        if (mapping == null) {
+            return;
         }
+        List<PathPattern> patterns = new ArrayList<>();
+        mapping.getHandlerMethods().forEach((info, method) -> {
+            if (method.hasMethodAnnotation(Track.class)) {
+                info.getPatternValues().forEach(pattern -> patterns.add(PathPatternParser.defaultInstance.parse(pattern)));
+            }
+        });
+        trackedPatterns = List.copyOf(patterns);
+        log.info("Request body caching enabled for {}", patterns);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        List<PathPattern> patterns = trackedPatterns;
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long declaredLength = request.getContentLengthLong();
+        if (declaredLength > maxBodyBytes) {
+            rejectTooLarge(response);
+            return;
+        }
+        byte[] pooled = declaredLength > bufferBytes ? null : acquire();
+        try {
+            byte[] body = pooled != null ? pooled : new byte[(int) declaredLength];
+            int length = 0;
+            InputStream in = request.getInputStream();
+            while (true) {
+                if (length == body.length) {
+                    // Probe before growing, so a body that exactly fills its buffer is not copied
+                    int next = in.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    if (length >= maxBodyBytes) {
+                        rejectTooLarge(response);
+                        return;
+                    }
+                    body = Arrays.copyOf(body, (int) Math.min(Math.max(body.length * 2L, bufferBytes), maxBodyBytes));
+                    body[length++] = (byte) next;
+                }
+                int read = in.read(body, length, body.length - length);
+                if (read == -1) {
+                    break;
+                }
+                length += read;
+            }
+            chain.doFilter(new CachedBodyHttpServletRequest(request, body, length), response);
+        } finally {
+            // An async request may still read the body after this thread has returned
+            if (pooled != null && !request.isAsyncStarted()) {
+                bufferPool.offer(pooled);
+            }
+        }
+    }
+
+    private byte[] acquire() {
+        byte[] buffer = bufferPool.poll();
+        return buffer != null ? buffer : new byte[bufferBytes];
+    }
+
+    private void rejectTooLarge(HttpServletResponse response) throws IOException {
+        BaseRes body = new BaseRes();
+        body.getErrors().add(new Error(PAYLOAD_TOO_LARGE_ERROR_CODE, "Request body exceeds " + maxBodyBytes + " bytes"));
+        response.setStatus(HttpStatus.CONTENT_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
     }
 }
@@ -0,0 +1,359 @@
+package com.words.basesdk.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips responses of at least {@code min-response-size} bytes for clients that accept it. The first bytes
+ * are held back until the threshold is reached, so small responses keep an exact Content-Length and no
+ * encoding overhead. Sizes are published as {@code words.response.size} (uncompressed body, tagged by
+ * content type and encoding) and {@code words.response.compression.saved} (bytes not sent thanks to gzip).
+ * Asynchronous handlers are supported: the stream is finished on the last dispatch of the request. A response
+ * switched to non-blocking writes is sent uncompressed. Only the API routes in {@code paths} are filtered, so
+ * actuator endpoints keep their own output handling.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    public static final String SIZE_METRIC = "words.response.size";
+    public static final String SAVED_METRIC = "words.response.compression.saved";
+    private static final String GZIP = "gzip";
+    private static final String IDENTITY = "identity";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${track.compression.enabled:true}")
+    boolean enabled;
+
+    @Value("${track.compression.min-response-size:1024}")
+    int minResponseSize;
+
+    @Value("${track.compression.mime-types:application/json,application/x-jackson-smile,application/cbor,text/plain}")
+    List<MediaType> mimeTypes;
+
+    @Value("${track.compression.paths:/words/**}")
+    List<String> paths;
+
+    private List<PathPattern> pathPatterns = List.of();
+
+    public ResponseCompressionFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void initFilterBean() {
+        pathPatterns = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PathPattern pattern : pathPatterns) {
+            if (pattern.matches(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CompressingResponse compressing = WebUtils.getNativeResponse(response, CompressingResponse.class);
+        if (compressing == null) {
+            compressing = new CompressingResponse(response, acceptsGzip(request));
+            response = compressing;
+        }
+        chain.doFilter(request, response);
+        if (!request.isAsyncStarted()) {
+            compressing.finish();
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mimeTypes.stream().anyMatch(type -> type.includes(mediaType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void record(String contentType, String encoding, long rawBytes, long sentBytes) {
+        String type = contentType == null ? "none" : MediaType.parseMediaType(contentType).getSubtype();
+        DistributionSummary.builder(SIZE_METRIC)
+                .description("Uncompressed response body size")
+                .baseUnit("bytes")
+                .tag("content_type", type)
+                .tag("encoding", encoding)
+                .register(meterRegistry)
+                .record(rawBytes);
+        if (rawBytes > sentBytes) {
+            Counter.builder(SAVED_METRIC)
+                    .description("Response bytes saved by compression")
+                    .baseUnit("bytes")
+                    .tag("content_type", type)
+                    .register(meterRegistry)
+                    .increment(rawBytes - sentBytes);
+        }
+    }
+
+    /**
+     * Buffers the body until the size threshold is reached, then commits to gzip or identity encoding.
+     */
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final boolean acceptsGzip;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream(minResponseSize);
+        private OutputStream target;
+        private GZIPOutputStream gzip;
+        private CountingOutputStream sent;
+        private long rawBytes;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean finished;
+        private boolean nonBlocking;
+
+        CompressingResponse(HttpServletResponse response, boolean acceptsGzip) {
+            super(response);
+            this.acceptsGzip = acceptsGzip;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            if (outputStream == null) {
+                outputStream = new BufferingServletOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+                outputStream = new BufferingServletOutputStream();
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+            }
+            return writer;
+        }
+
+        // The final length is only known once the encoding has been chosen
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        // Message converters flush after every body; below the threshold that is deferred to finish()
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target != null) {
+                target.flush();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            resetBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (target != null) {
+                throw new IllegalStateException("Response already committed");
+            }
+            super.resetBuffer();
+            pending.reset();
+            rawBytes = 0;
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            rawBytes += length;
+            if (target != null) {
+                target.write(bytes, offset, length);
+                return;
+            }
+            pending.write(bytes, offset, length);
+            if (pending.size() >= minResponseSize) {
+                commit();
+            }
+        }
+
+        private void commit() throws IOException {
+            if (target != null) {
+                return;
+            }
+            sent = new CountingOutputStream(getResponse().getOutputStream());
+            if (!nonBlocking && acceptsGzip && pending.size() >= minResponseSize && isCompressible(getContentType())
+                    && !containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+                setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                gzip = new GZIPOutputStream(sent, 8192);
+                target = gzip;
+            } else {
+                target = sent;
+            }
+            pending.writeTo(target);
+            pending.reset();
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target == null) {
+                if (rawBytes == 0) {
+                    return;
+                }
+                if (!isCommitted()) {
+                    super.setContentLength(pending.size());
+                }
+                commit();
+            }
+            if (gzip != null) {
+                gzip.finish();
+            }
+            record(getContentType(), gzip != null ? GZIP : IDENTITY, rawBytes, sent.count);
+        }
+
+        private final class BufferingServletOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                CompressingResponse.this.write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                CompressingResponse.this.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                // Flushing before the threshold would force a decision on too little data
+                if (target != null) {
+                    target.flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                if (nonBlocking) {
+                    try {
+                        return getResponse().getOutputStream().isReady();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Gzip cannot honour isReady() between deflate blocks, so the response falls back to identity
+             * encoding: anything held back is written out and later writes go straight to the container stream.
+             */
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                if (gzip != null) {
+                    throw new IllegalStateException("Response is already being compressed");
+                }
+                nonBlocking = true;
+                try {
+                    commit();
+                    getResponse().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
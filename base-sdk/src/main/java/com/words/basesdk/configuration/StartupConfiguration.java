@@ -0,0 +1,39 @@
+package com.words.basesdk.configuration;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Support for the {@code fast-startup} profile, which turns on lazy initialization so that beans are created on
+ * first use instead of before the web server accepts traffic. Beans that stay eager, such as Kafka listeners,
+ * look up Mongo-backed services through an {@code ObjectProvider}.
+ */
+@Configuration
+public class StartupConfiguration {
+
+    /**
+     * Listener endpoints are registered when their bean is created, so beans declaring {@link KafkaListener}
+     * stay eager; otherwise a lazy consumer would never subscribe.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter kafkaListenerLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && declaresKafkaListener(beanType);
+    }
+
+    private static boolean declaresKafkaListener(Class<?> beanType) {
+        if (AnnotatedElementUtils.hasAnnotation(beanType, KafkaListener.class)) {
+            return true;
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, KafkaListener.class));
+        return found.get();
+    }
+}
@@ -1,11 +1,15 @@
 package com.words.basesdk.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.ValidationMessage;
+import com.words.basesdk.jfr.RequestStageEvent;
+import com.words.basesdk.metrics.StageTimers;
 import com.words.basesdk.service.ServiceTask;
 import com.words.basesdk.model.ErrorStatus;
 import com.words.basesdk.model.ValidationResultWrapper;
 import com.words.basesdk.validation.CertValidator;
 import com.words.basesdk.validation.SchemaValidator;
+import com.words.schema.base.BaseRes;
 import com.words.schema.base.Error;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,7 +18,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import static com.words.basesdk.metrics.StageTimers.*;
 import static com.words.basesdk.util.BaseSDKConstants.INVALID_CERT_ERROR_CODE;
 import static com.words.basesdk.util.BaseSDKConstants.SCHEMA_VALIDATION_ERROR_CODE;
 
@@ -28,6 +35,12 @@ public abstract class AbstractBaseController {
     @Autowired
     SchemaValidator schemaValidator;
 
+    @Autowired
+    protected StageTimers stageTimers;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     protected void authenticateCaller(HttpServletRequest request, ValidationResultWrapper validationResultWrapper){
         boolean isCertValid = certValidator.validateCerts(request);
 
@@ -75,6 +88,47 @@ public abstract class AbstractBaseController {
         return errorList;
     }
 
+    /**
+     * Runs the service call for the task and records it as the {@code service} stage.
+     */
+    protected void timeServiceCall(ServiceTask serviceTask, Runnable serviceCall) {
+        long start = stageTimers.start();
+        RequestStageEvent stageEvent = RequestStageEvent.start(STAGE_SERVICE);
+        String outcome = OUTCOME_EXCEPTION;
+        try {
+            serviceCall.run();
+            outcome = outcomeOf(serviceTask);
+        } finally {
+            stageTimers.recordSince(controllerName(), STAGE_SERVICE, outcome, start);
+            stageEvent.finish(controllerName(), getValidationSchema(), serviceTask.getRequestBodySize(), outcome);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #timeServiceCall}; the stage ends when the returned future completes.
+     */
+    protected <V> CompletableFuture<V> timeServiceCallAsync(ServiceTask serviceTask, Supplier<CompletableFuture<V>> serviceCall) {
+        long start = stageTimers.start();
+        RequestStageEvent stageEvent = RequestStageEvent.start(STAGE_SERVICE);
+        return serviceCall.get().whenComplete((result, e) -> {
+            String outcome = e != null ? OUTCOME_EXCEPTION : outcomeOf(serviceTask);
+            stageTimers.recordSince(controllerName(), STAGE_SERVICE, outcome, start);
+            stageEvent.finish(controllerName(), getValidationSchema(), serviceTask.getRequestBodySize(), outcome);
+        });
+    }
+
+    protected String outcomeOf(ServiceTask serviceTask) {
+        if (hasErrors(serviceTask)
+                || serviceTask.getResponse() instanceof BaseRes res && !res.getErrors().isEmpty()) {
+            return OUTCOME_ERROR;
+        }
+        return OUTCOME_SUCCESS;
+    }
+
+    protected String controllerName() {
+        return getClass().getSimpleName();
+    }
+
     protected abstract String getValidationSchema();
 
     protected int getHttpStatusCode(ServiceTask serviceTask){
@@ -1,5 +1,6 @@
 package com.words.basesdk.controller;
 
+import com.words.basesdk.jfr.RequestStageEvent;
 import com.words.basesdk.service.ServiceTask;
 import com.words.basesdk.model.ValidationResultWrapper;
 import com.words.schema.base.BaseRes;
@@ -9,10 +10,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StreamUtils;
 
 import java.lang.reflect.ParameterizedType;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.words.basesdk.metrics.StageTimers.*;
 import static com.words.basesdk.util.BaseSDKConstants.INTERNAL_SERVER_ERROR_CODE;
 
 @Slf4j
@@ -35,27 +38,53 @@ public abstract class BaseController<R, T extends BaseRes> extends AbstractBaseC
         ValidationResultWrapper validationResultWrapper = new ValidationResultWrapper();
         validationResultWrapper.setErrorStatusList(new ArrayList<>());
 
+        String controller = controllerName();
+        String schema = getValidationSchema();
+        long start = stageTimers.start();
+        String stage = STAGE_READ_BODY;
+        RequestStageEvent stageEvent = RequestStageEvent.start(stage);
+        int bodySize = 0;
         try {
             responseObj = responseType.getDeclaredConstructor().newInstance();
             serviceTask.setResponse(responseObj);
             byte[] requestBytes = StreamUtils.copyToByteArray(request.getInputStream());
-            String requestBodyString = new String(requestBytes);
+            bodySize = requestBytes.length;
+            serviceTask.setRequestBodySize(bodySize);
+            String requestBodyString = new String(requestBytes, StandardCharsets.UTF_8);
             log.debug("Request = {}", requestBodyString);
+            stageTimers.recordSince(controller, stage, OUTCOME_SUCCESS, start);
+            stageEvent.finish(controller, schema, bodySize, OUTCOME_SUCCESS);
 
+            stage = STAGE_CERT;
+            start = stageTimers.start();
+            stageEvent = RequestStageEvent.start(stage);
             authenticateCaller(request, validationResultWrapper);
+            stageTimers.recordSince(controller, stage, outcomeOf(validationResultWrapper), start);
+            stageEvent.finish(controller, schema, bodySize, outcomeOf(validationResultWrapper));
 
             if (validationResultWrapper.getErrorStatusList().isEmpty()&&!requestBodyString.isEmpty()) {
+                stage = STAGE_SCHEMA;
+                start = stageTimers.start();
+                stageEvent = RequestStageEvent.start(stage);
                 validatePayloadWithSchema(requestBodyString, validationResultWrapper);
+                stageTimers.recordSince(controller, stage, outcomeOf(validationResultWrapper), start);
+                stageEvent.finish(controller, schema, bodySize, outcomeOf(validationResultWrapper));
             }
 
             if (!requestBodyString.isEmpty()&&validationResultWrapper.getErrorStatusList().isEmpty()) {
-                requestObj = new com.fasterxml.jackson.databind.ObjectMapper()
-                        .readValue(requestBodyString, requestBodyType);
+                stage = STAGE_BIND;
+                start = stageTimers.start();
+                stageEvent = RequestStageEvent.start(stage);
+                requestObj = objectMapper.readValue(requestBytes, requestBodyType);
                 serviceTask.setRequest(requestObj);
+                stageTimers.recordSince(controller, stage, OUTCOME_SUCCESS, start);
+                stageEvent.finish(controller, schema, bodySize, OUTCOME_SUCCESS);
             }
 
         } catch (Exception e) {
             log.error("Error occurred during initial validations", e);
+            stageTimers.recordSince(controller, stage, OUTCOME_EXCEPTION, start);
+            stageEvent.finish(controller, schema, bodySize, OUTCOME_EXCEPTION);
             serviceTask.getErrorMap().put(INTERNAL_SERVER_ERROR_CODE, "Internal Technical Exception");
         } finally {
             Map<String, String> errorMap = new HashMap<>();
@@ -68,4 +97,8 @@ public abstract class BaseController<R, T extends BaseRes> extends AbstractBaseC
         return serviceTask;
     }
 
+    private String outcomeOf(ValidationResultWrapper validationResultWrapper) {
+        return validationResultWrapper.getErrorStatusList().isEmpty() ? OUTCOME_SUCCESS : OUTCOME_ERROR;
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.words.basesdk.converter;
+
+import com.words.schema.reverse.ReverseSentenceReq;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.Map;
+
+import static com.words.basesdk.converter.ReverseSentenceReqWriteConverter.EXTRA;
+import static com.words.basesdk.converter.ReverseSentenceReqWriteConverter.SENTENCE;
+
+/**
+ * Reads both the compact layout and legacy documents that stored the request as a plain map.
+ */
+@ReadingConverter
+public class ReverseSentenceReqReadConverter implements Converter<Document, ReverseSentenceReq> {
+
+    private static final String LEGACY_SENTENCE = "sentence";
+    private static final String TYPE_HINT = "_class";
+
+    @Override
+    public ReverseSentenceReq convert(Document source) {
+        ReverseSentenceReq req = new ReverseSentenceReq();
+        if (source.containsKey(SENTENCE) || source.containsKey(EXTRA)) {
+            req.setSentence(source.getString(SENTENCE));
+            if (source.get(EXTRA) instanceof Map<?, ?> extra) {
+                extra.forEach((key, value) -> req.setAdditionalProperty(String.valueOf(key), value));
+            }
+            return req;
+        }
+        source.forEach((key, value) -> {
+            if (LEGACY_SENTENCE.equals(key)) {
+                req.setSentence(value == null ? null : String.valueOf(value));
+            } else if (!TYPE_HINT.equals(key)) {
+                req.setAdditionalProperty(key, value);
+            }
+        });
+        return req;
+    }
+}
@@ -0,0 +1,28 @@
+package com.words.basesdk.converter;
+
+import com.words.schema.reverse.ReverseSentenceReq;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+/**
+ * Stores a tracked reverse request as {@code {s: sentence, x: {unknown fields}}} without type hints.
+ */
+@WritingConverter
+public class ReverseSentenceReqWriteConverter implements Converter<ReverseSentenceReq, Document> {
+
+    static final String SENTENCE = "s";
+    static final String EXTRA = "x";
+
+    @Override
+    public Document convert(ReverseSentenceReq source) {
+        Document doc = new Document();
+        if (source.getSentence() != null) {
+            doc.put(SENTENCE, source.getSentence());
+        }
+        if (!source.getAdditionalProperties().isEmpty()) {
+            doc.put(EXTRA, new Document(source.getAdditionalProperties()));
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,49 @@
+package com.words.basesdk.converter;
+
+import com.words.schema.base.Error;
+import com.words.schema.reverse.ReverseSentenceRes;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.words.basesdk.converter.ReverseSentenceResWriteConverter.*;
+
+/**
+ * Reads both the compact layout and legacy {@code {reversedSentence, errors: [{code, message}]}} documents.
+ */
+@ReadingConverter
+public class ReverseSentenceResReadConverter implements Converter<Document, ReverseSentenceRes> {
+
+    private static final String LEGACY_REVERSED = "reversedSentence";
+    private static final String LEGACY_ERRORS = "errors";
+    private static final String LEGACY_CODE = "code";
+    private static final String LEGACY_MESSAGE = "message";
+
+    @Override
+    public ReverseSentenceRes convert(Document source) {
+        boolean legacy = source.containsKey(LEGACY_REVERSED) || source.containsKey(LEGACY_ERRORS);
+        ReverseSentenceRes res = new ReverseSentenceRes();
+        Object reversed = source.get(legacy ? LEGACY_REVERSED : REVERSED);
+        res.setReversedSentence(reversed == null ? null : String.valueOf(reversed));
+        if (source.get(legacy ? LEGACY_ERRORS : ERRORS) instanceof List<?> errors) {
+            for (Object item : errors) {
+                if (item instanceof Map<?, ?> error) {
+                    res.getErrors().add(new Error(
+                            asString(error.get(legacy ? LEGACY_CODE : CODE)),
+                            asString(error.get(legacy ? LEGACY_MESSAGE : MESSAGE))));
+                }
+            }
+        }
+        if (!legacy && source.get(EXTRA) instanceof Map<?, ?> extra) {
+            extra.forEach((key, value) -> res.setAdditionalProperty(String.valueOf(key), value));
+        }
+        return res;
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : String.valueOf(value);
+    }
+}
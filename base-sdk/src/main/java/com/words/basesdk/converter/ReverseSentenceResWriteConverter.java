@@ -0,0 +1,42 @@
+package com.words.basesdk.converter;
+
+import com.words.schema.base.Error;
+import com.words.schema.reverse.ReverseSentenceRes;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores a tracked reverse response as {@code {r: reversedSentence, e: [{c: code, m: message}], x: {unknown fields}}}.
+ */
+@WritingConverter
+public class ReverseSentenceResWriteConverter implements Converter<ReverseSentenceRes, Document> {
+
+    static final String REVERSED = "r";
+    static final String ERRORS = "e";
+    static final String CODE = "c";
+    static final String MESSAGE = "m";
+    static final String EXTRA = "x";
+
+    @Override
+    public Document convert(ReverseSentenceRes source) {
+        Document doc = new Document();
+        if (source.getReversedSentence() != null) {
+            doc.put(REVERSED, source.getReversedSentence());
+        }
+        if (source.getErrors() != null && !source.getErrors().isEmpty()) {
+            List<Document> errors = new ArrayList<>(source.getErrors().size());
+            for (Error error : source.getErrors()) {
+                errors.add(new Document(CODE, error.getCode()).append(MESSAGE, error.getMessage()));
+            }
+            doc.put(ERRORS, errors);
+        }
+        if (!source.getAdditionalProperties().isEmpty()) {
+            doc.put(EXTRA, new Document(source.getAdditionalProperties()));
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,61 @@
+package com.words.basesdk.converter;
+
+import com.words.basesdk.model.TrackLogDocument;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static com.words.basesdk.model.TrackLogDocument.*;
+
+/**
+ * Reads TrackLog documents in the compact layout as well as legacy documents written with full field names,
+ * untyped bodies and {@code "null"} severities, so both can be served while the online migration runs.
+ */
+@ReadingConverter
+public class TrackLogDocumentReadConverter implements Converter<Document, TrackLogDocument> {
+
+    private final ReverseSentenceReqReadConverter requestConverter = new ReverseSentenceReqReadConverter();
+    private final ReverseSentenceResReadConverter responseConverter = new ReverseSentenceResReadConverter();
+
+    @Override
+    public TrackLogDocument convert(Document source) {
+        Object id = source.get(ID_FIELD);
+        Object requestBody = field(source, REQUEST_BODY_FIELD, LEGACY_REQUEST_BODY_FIELD);
+        Object responseBody = field(source, RESPONSE_BODY_FIELD, LEGACY_RESPONSE_BODY_FIELD);
+        Object severity = field(source, SEVERITY_FIELD, LEGACY_SEVERITY_FIELD);
+        Object executionTimeMs = field(source, EXECUTION_TIME_FIELD, LEGACY_EXECUTION_TIME_FIELD);
+        return TrackLogDocument.builder()
+                .uniqueId(id == null ? null : String.valueOf(id))
+                .serviceName((String) field(source, SERVICE_NAME_FIELD, LEGACY_SERVICE_NAME_FIELD))
+                .requestBody(requestBody instanceof Document doc ? requestConverter.convert(doc) : null)
+                .responseBody(responseBody instanceof Document doc ? responseConverter.convert(doc) : null)
+                .severity(severity == null || "null".equals(severity) ? null : String.valueOf(severity))
+                .executionTimeMs(executionTimeMs instanceof Number number ? number.longValue() : 0L)
+                .requestTs(toInstant(field(source, REQUEST_TS_FIELD, LEGACY_REQUEST_TS_FIELD)))
+                .responseTs(toInstant(field(source, RESPONSE_TS_FIELD, LEGACY_RESPONSE_TS_FIELD)))
+                .payloadHash((String) source.get(PAYLOAD_HASH_FIELD))
+                .build();
+    }
+
+    private static Object field(Document source, String compactName, String legacyName) {
+        Object value = source.get(compactName);
+        return value != null ? value : source.get(legacyName);
+    }
+
+    private static Instant toInstant(Object value) {
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        if (value instanceof String text) {
+            try {
+                return Instant.parse(text);
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.words.basesdk.durability;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.durability")
+public class DurabilityProperties {
+    private boolean enabled;
+    /**
+     * Tier for severities no tier lists, and for every TrackLog while tiers are disabled.
+     */
+    private String defaultTier = "critical";
+    private Map<String, Tier> tiers = new LinkedHashMap<>();
+
+    /**
+     * Unset values fall back to kafka.producer and to the write concern of the Mongo connection string.
+     */
+    @Getter
+    @Setter
+    public static class Tier {
+        private List<String> severities = new ArrayList<>();
+        private String acks;
+        private Integer batchSize;
+        private Integer lingerMs;
+        /**
+         * Mongo write acknowledgment: {@code majority} or a number of members, e.g. {@code 1}.
+         */
+        private String w;
+        private Boolean journal;
+    }
+}
@@ -0,0 +1,97 @@
+package com.words.basesdk.durability;
+
+import com.mongodb.WriteConcern;
+import com.words.basesdk.model.TrackLogDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.WriteConcernResolver;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a TrackLog severity to a durability tier, so that e.g. ERROR records keep majority / all acknowledgment
+ * while INFO records are written with weaker acknowledgment and larger batches. Kafka producers per tier are
+ * built by {@code KafkaConfiguration}; Mongo picks the tier's write concern through this resolver.
+ * Write latency is published as {@code track.durability.write} tagged by tier, sink and outcome.
+ */
+@Component
+public class DurabilityTiers implements WriteConcernResolver {
+
+    public static final String WRITE_METRIC = "track.durability.write";
+    public static final String SINK_KAFKA = "kafka";
+    public static final String SINK_MONGO = "mongo";
+
+    private final DurabilityProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> tiersBySeverity = new HashMap<>();
+    private final Map<String, WriteConcern> writeConcerns = new HashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public DurabilityTiers(DurabilityProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        properties.getTiers().forEach((name, tier) -> {
+            tier.getSeverities().forEach(severity -> tiersBySeverity.put(severity, name));
+            WriteConcern writeConcern = writeConcern(tier);
+            if (writeConcern != null) {
+                writeConcerns.put(name, writeConcern);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public String tierOf(String severity) {
+        if (!properties.isEnabled() || severity == null) {
+            return properties.getDefaultTier();
+        }
+        return tiersBySeverity.getOrDefault(severity, properties.getDefaultTier());
+    }
+
+    /**
+     * Applies the tier write concern to TrackLog documents; every other write keeps the connection default.
+     */
+    @Override
+    public WriteConcern resolve(MongoAction action) {
+        if (!properties.isEnabled() || action.getEntityType() != TrackLogDocument.class) {
+            return action.getDefaultWriteConcern();
+        }
+        Document document = action.getDocument();
+        Object severity = document == null ? null : document.get(TrackLogDocument.SEVERITY_FIELD);
+        WriteConcern writeConcern = writeConcerns.get(tierOf(severity == null ? null : String.valueOf(severity)));
+        return writeConcern != null ? writeConcern : action.getDefaultWriteConcern();
+    }
+
+    public void recordWrite(String tier, String sink, boolean success, long startNanos) {
+        String outcome = success ? "success" : "failure";
+        timers.computeIfAbsent(tier + '|' + sink + '|' + outcome, key -> Timer.builder(WRITE_METRIC)
+                        .description("Latency of an acknowledged TrackLog write")
+                        .tag("tier", tier)
+                        .tag("sink", sink)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static WriteConcern writeConcern(DurabilityProperties.Tier tier) {
+        if (tier.getW() == null && tier.getJournal() == null) {
+            return null;
+        }
+        WriteConcern writeConcern = tier.getW() == null ? WriteConcern.ACKNOWLEDGED
+                : "majority".equalsIgnoreCase(tier.getW()) ? WriteConcern.MAJORITY
+                : new WriteConcern(Integer.parseInt(tier.getW()));
+        return tier.getJournal() == null ? writeConcern : writeConcern.withJournal(tier.getJournal());
+    }
+}
@@ -0,0 +1,35 @@
+package com.words.basesdk.durability;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+
+/**
+ * One KafkaTemplate per durability tier, each on its own producer with the tier's acks and batching.
+ * Tiers without a producer of their own, and every tier while tiers are disabled, use the default template.
+ */
+public class TieredKafkaTemplates implements DisposableBean {
+
+    private final KafkaTemplate<String, Object> defaultTemplate;
+    private final Map<String, KafkaTemplate<String, Object>> templatesByTier;
+
+    public TieredKafkaTemplates(KafkaTemplate<String, Object> defaultTemplate,
+                                Map<String, KafkaTemplate<String, Object>> templatesByTier) {
+        this.defaultTemplate = defaultTemplate;
+        this.templatesByTier = templatesByTier;
+    }
+
+    public KafkaTemplate<String, Object> forTier(String tier) {
+        return templatesByTier.getOrDefault(tier, defaultTemplate);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (KafkaTemplate<String, Object> template : templatesByTier.values()) {
+            if (template.getProducerFactory() instanceof DisposableBean factory) {
+                factory.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.words.basesdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A batched Mongo write, e.g. a migration or archive batch in persist-service.
+ */
+@Name("com.words.BulkWrite")
+@Label("Bulk Write")
+@Category({"Words", "Storage"})
+@Description("A batched write to a Mongo collection")
+@StackTrace(false)
+public class BulkWriteEvent extends Event {
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Requests")
+    int requests;
+
+    @Label("Documents Affected")
+    long affected;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static BulkWriteEvent start(String collection, String operation, int requests) {
+        BulkWriteEvent event = new BulkWriteEvent();
+        event.collection = collection;
+        event.operation = operation;
+        event.requests = requests;
+        event.begin();
+        return event;
+    }
+
+    public void finish(long affected, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.affected = affected;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
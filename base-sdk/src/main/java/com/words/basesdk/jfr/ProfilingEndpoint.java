@@ -0,0 +1,144 @@
+package com.words.basesdk.jfr;
+
+import com.words.basesdk.validation.CertValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code POST /actuator/jfr}: records a time-boxed JDK Flight Recorder session, including the Words events,
+ * and streams the {@code .jfr} file back. Only callers whose client certificate passes {@link CertValidator}
+ * and whose subject is listed in {@code track.profiling.allowed-subjects} may start one; one recording runs at a time.
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ProfilingProperties.class)
+@ConditionalOnProperty(name = "track.profiling.enabled", havingValue = "true")
+public class ProfilingEndpoint {
+
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final ProfilingProperties properties;
+    private final CertValidator certValidator;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Integer seconds, @Nullable String settings) throws Exception {
+        if (!isAllowed()) {
+            return new WebEndpointResponse<>(STATUS_FORBIDDEN);
+        }
+        String configurationName = settings == null ? "default" : settings;
+        if (!SETTINGS.contains(configurationName) || (seconds != null && seconds <= 0)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            Duration duration = seconds == null ? properties.getDefaultDuration() : Duration.ofSeconds(seconds);
+            if (duration.compareTo(properties.getMaxDuration()) > 0) {
+                duration = properties.getMaxDuration();
+            }
+            return new WebEndpointResponse<>(new TemporaryFileSystemResource(record(configurationName, duration)));
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private Path record(String configurationName, Duration duration) throws Exception {
+        log.info("Starting a {} JFR recording for {}", configurationName, duration);
+        Path file = Files.createTempFile("words-", ".jfr");
+        try (Recording jfr = new Recording(Configuration.getConfiguration(configurationName))) {
+            jfr.setName("words-on-demand");
+            jfr.enable(RequestStageEvent.class);
+            jfr.enable(TrackLogPublishEvent.class);
+            jfr.enable(BulkWriteEvent.class);
+            jfr.start();
+            Thread.sleep(duration.toMillis());
+            jfr.stop();
+            jfr.dump(file);
+        } catch (Exception e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private boolean isAllowed() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (!certValidator.validateCerts(request)) {
+            return false;
+        }
+        X509Certificate[] certs = (X509Certificate[]) request.getAttribute("jakarta.servlet.request.X509Certificate");
+        String subject = certs[0].getSubjectX500Principal().getName();
+        if (!properties.getAllowedSubjects().contains(subject)) {
+            log.warn("JFR recording refused for certificate subject {}", subject);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the recording once it has been streamed. Not reported as a file so that it is always read
+     * through {@link #getInputStream()}.
+     */
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        private TemporaryFileSystemResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        @Override
+        public String getFilename() {
+            return "words.jfr";
+        }
+    }
+}
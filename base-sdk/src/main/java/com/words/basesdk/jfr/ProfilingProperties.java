@@ -0,0 +1,25 @@
+package com.words.basesdk.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.profiling")
+public class ProfilingProperties {
+    private boolean enabled = false;
+    private Duration defaultDuration = Duration.ofSeconds(30);
+    /**
+     * Upper bound on a requested recording; the request thread is held for the whole recording.
+     */
+    private Duration maxDuration = Duration.ofSeconds(60);
+    /**
+     * Subject DNs of client certificates allowed to start a recording, on top of the usual issuer check.
+     */
+    private List<String> allowedSubjects = new ArrayList<>();
+}
@@ -0,0 +1,57 @@
+package com.words.basesdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of the BaseController request pipeline, mirroring the {@code words.pipeline.stage} timers.
+ * Costs next to nothing unless a recording enables it.
+ */
+@Name("com.words.RequestStage")
+@Label("Request Stage")
+@Category({"Words", "Request"})
+@Description("A single stage of the BaseController request pipeline")
+@StackTrace(false)
+public class RequestStageEvent extends Event {
+
+    @Label("Controller")
+    String controller;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Schema")
+    String schema;
+
+    // The response is serialized after the service stage, so every stage reports the request body
+    @Label("Body Size")
+    @Description("Size of the request body")
+    @DataAmount
+    long bodySize;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static RequestStageEvent start(String stage) {
+        RequestStageEvent event = new RequestStageEvent();
+        event.stage = stage;
+        event.begin();
+        return event;
+    }
+
+    public void finish(String controller, String schema, long bodySize, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.controller = controller;
+            this.schema = schema;
+            this.bodySize = bodySize;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.words.basesdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A TrackLog sent to Kafka by TrackAspect, from the send until the broker acknowledged or the send failed.
+ * Acknowledged sends are committed on the producer thread.
+ */
+@Name("com.words.TrackLogPublish")
+@Label("TrackLog Publish")
+@Category({"Words", "Tracking"})
+@Description("A TrackLog published to Kafka, until acknowledged")
+@StackTrace(false)
+public class TrackLogPublishEvent extends Event {
+
+    @Label("Service")
+    String serviceName;
+
+    @Label("Severity")
+    String severity;
+
+    @Label("Durability Tier")
+    String tier;
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static TrackLogPublishEvent start(String serviceName, String severity, String tier, String topic) {
+        TrackLogPublishEvent event = new TrackLogPublishEvent();
+        event.serviceName = serviceName;
+        event.severity = severity;
+        event.tier = tier;
+        event.topic = topic;
+        event.begin();
+        return event;
+    }
+
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -1,14 +1,30 @@
 package com.words.basesdk.kafka;
 
+import com.words.basesdk.metrics.TrackLogPipelineMetrics;
 import com.words.basesdk.model.TrackLog;
 import com.words.basesdk.service.TrackLogPersistenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_REPLAY_HEADER;
+
+/**
+ * Stays eager under lazy initialization so the consumer subscribes at startup; the persistence service, and the
+ * Mongo client behind it, is only looked up on the consumer thread once partitions are assigned.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,16 +33,40 @@ import org.springframework.stereotype.Component;
         havingValue = "true"
 )
 @ConditionalOnBean(TrackLogPersistenceService.class)
-public class TrackLogKafkaListener {
+public class TrackLogKafkaListener implements ConsumerSeekAware {
 
-    private final TrackLogPersistenceService persistenceService;
+    private final ObjectProvider<TrackLogPersistenceService> persistenceService;
+    private final TrackLogPipelineMetrics pipelineMetrics;
 
     @KafkaListener(
             topics = "${track.kafka.topic}",
             groupId = "${kafka.consumer.group-id}"
     )
-    public void consumeTrackLog(TrackLog trackLog) {
+    public void consumeTrackLog(TrackLog trackLog, @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                @Header(KafkaHeaders.OFFSET) long offset,
+                                @Header(name = TRACK_LOG_REPLAY_HEADER, required = false) String replay) {
+        trackLog.setOffset(offset);
+        if (Boolean.parseBoolean(replay)) {
+            trackLog.setReplayed(true);
+        } else {
+            pipelineMetrics.markConsumed(trackLog, partition);
+        }
         log.info("Consumed TrackLog from topic: {}", trackLog.getUniqueId());
-        persistenceService.save(trackLog);
+        persistenceService.getObject().save(trackLog);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<Integer> partitions = assignments.keySet().stream().map(TopicPartition::partition).toList();
+        pipelineMetrics.partitionsAssigned(partitions);
+        persistenceService.getObject().partitionsAssigned(partitions);
+    }
+
+    /**
+     * Drops the freshness gauges of partitions another instance now consumes, which would otherwise age forever.
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        pipelineMetrics.partitionsRevoked(partitions.stream().map(TopicPartition::partition).toList());
     }
 }
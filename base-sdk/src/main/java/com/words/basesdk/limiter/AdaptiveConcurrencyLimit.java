@@ -0,0 +1,119 @@
+package com.words.basesdk.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for one endpoint, adjusted from measured latency in the style of TCP Vegas.
+ * <p>
+ * Latency samples are averaged per window. The lowest window average seen approximates the no-load
+ * latency, and {@code limit * (1 - noLoadRtt / rtt)} estimates how many requests are queueing rather than
+ * being worked on. The limit grows while that queue stays under {@code alpha} (3·log10 limit) and shrinks
+ * once it exceeds {@code beta} (6·log10 limit), so it settles just above the point where latency starts to
+ * climb. Windows in which fewer than half of the permits were used carry no signal about capacity and never
+ * grow the limit. A window faster than the baseline lowers it at once. Every {@code probe-windows} windows the
+ * baseline rises by {@code baseline-decay} of the gap to the fastest window of that period, so it follows
+ * deploys and larger data within a few periods, while sustained overload cannot lift it to the loaded latency
+ * and undo the limit.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAccumulator windowMaxInFlight = new LongAccumulator(Math::max, 0);
+    private volatile long windowStartNanos = System.nanoTime();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double noLoadRttNanos;
+    private int windowsSinceProbe;
+    private double probeMinRttNanos = Double.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * @return the number of requests in flight including this one, or -1 when the limit is reached
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+        windowMaxInFlight.accumulate(inFlightAtStart);
+
+        long now = System.nanoTime();
+        if (now - windowStartNanos < properties.getWindow().toNanos()
+                || windowSamples.sum() < properties.getMinWindowSamples()
+                || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            windowStartNanos = now;
+            long samples = windowSamples.sumThenReset();
+            long rttSum = windowRttNanos.sumThenReset();
+            long maxInFlight = windowMaxInFlight.getThenReset();
+            if (samples > 0) {
+                update((double) rttSum / samples, maxInFlight);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(double rttNanos, long maxInFlight) {
+        probeMinRttNanos = Math.min(probeMinRttNanos, rttNanos);
+        if (++windowsSinceProbe >= properties.getProbeWindows()) {
+            windowsSinceProbe = 0;
+            if (noLoadRttNanos > 0 && probeMinRttNanos > noLoadRttNanos) {
+                noLoadRttNanos += (probeMinRttNanos - noLoadRttNanos) * properties.getBaselineDecay();
+            }
+            probeMinRttNanos = Double.MAX_VALUE;
+        }
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+            return;
+        }
+        double log = Math.max(1, Math.log10(estimatedLimit));
+        double queued = estimatedLimit * (1 - noLoadRttNanos / rttNanos);
+        double newLimit;
+        if (queued > 6 * log) {
+            newLimit = estimatedLimit - log;
+        } else if (queued < 3 * log && maxInFlight >= estimatedLimit / 2) {
+            newLimit = estimatedLimit + (queued <= log ? 6 * log : log);
+        } else {
+            return;
+        }
+        newLimit = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
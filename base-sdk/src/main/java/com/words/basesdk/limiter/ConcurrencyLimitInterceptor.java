@@ -0,0 +1,159 @@
+package com.words.basesdk.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.basesdk.controller.AbstractBaseController;
+import com.words.schema.base.BaseRes;
+import com.words.schema.base.Error;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.words.basesdk.util.BaseSDKConstants.OVERLOADED_ERROR_CODE;
+import static com.words.basesdk.util.BaseSDKConstants.WARMUP_REQUEST_ATTRIBUTE;
+
+/**
+ * Sheds load on {@link AbstractBaseController} endpoints once they exceed their adaptive concurrency limit,
+ * answering 503 with {@code Retry-After} immediately instead of letting requests queue. Each endpoint
+ * pattern has its own {@link AdaptiveConcurrencyLimit}; a permit is held until the response completes,
+ * including the asynchronous part of a {@code CompletableFuture} handler.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String LIMIT_METRIC = "words.concurrency.limit";
+    public static final String IN_FLIGHT_METRIC = "words.concurrency.inflight";
+    public static final String REJECTED_METRIC = "words.concurrency.rejected";
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EndpointLimit> limits = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!properties.isEnabled()
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !AbstractBaseController.class.isAssignableFrom(handlerMethod.getBeanType())
+                || request.getAttribute(PERMIT_ATTRIBUTE) != null
+                || request.getAttribute(WARMUP_REQUEST_ATTRIBUTE) != null) {
+            return true;
+        }
+        EndpointLimit endpointLimit = limits.computeIfAbsent(endpointOf(request), this::register);
+        int inFlight = endpointLimit.limit().tryAcquire();
+        if (inFlight < 0) {
+            endpointLimit.rejected().increment();
+            reject(response);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(endpointLimit.limit(), System.nanoTime(), inFlight));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            // Released when the response completes, even if no async dispatch follows (timeouts, dropped clients)
+            request.getAsyncContext().addListener(permit);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!request.isAsyncStarted() && request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            permit.release();
+        }
+    }
+
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private EndpointLimit register(String endpoint) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        Gauge.builder(LIMIT_METRIC, limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests holding a concurrency permit")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder(REJECTED_METRIC)
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return new EndpointLimit(limit, rejected);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        BaseRes body = new BaseRes();
+        body.getErrors().add(new Error(OVERLOADED_ERROR_CODE, "Service is at capacity, retry later"));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private record EndpointLimit(AdaptiveConcurrencyLimit limit, Counter rejected) {
+    }
+
+    private static final class Permit implements AsyncListener {
+        private final AdaptiveConcurrencyLimit limit;
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(AdaptiveConcurrencyLimit limit, long startNanos, int inFlightAtStart) {
+            this.limit = limit;
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - startNanos, inFlightAtStart);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.words.basesdk.limiter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 10;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    /**
+     * Weight of each new limit estimate; lower values react more slowly but oscillate less.
+     */
+    private double smoothing = 0.5;
+    /**
+     * Windows after which the no-load latency baseline is moved towards the fastest window of the period.
+     */
+    private int probeWindows = 300;
+    /**
+     * Share of the gap to that fastest window the baseline rises by per period.
+     */
+    private double baselineDecay = 0.1;
+    private Duration window = Duration.ofSeconds(1);
+    private int minWindowSamples = 10;
+    private int retryAfterSeconds = 1;
+}
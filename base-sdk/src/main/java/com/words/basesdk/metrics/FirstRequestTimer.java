@@ -0,0 +1,58 @@
+package com.words.basesdk.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes {@code application.first.request.time}: JVM uptime when the first non-actuator request
+ * finished, i.e. how long a freshly scheduled instance took to serve real traffic. Unlike
+ * {@code application.ready.time} it includes JVM boot and whatever lazy initialization the first
+ * request paid for.
+ */
+@Slf4j
+@Component
+public class FirstRequestTimer implements Filter {
+
+    public static final String METRIC_NAME = "application.first.request.time";
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!recorded.get() && isServedRequest(request) && recorded.compareAndSet(false, true)) {
+                record(ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+        }
+    }
+
+    private boolean isServedRequest(ServletRequest request) {
+        return !(request instanceof HttpServletRequest httpRequest)
+                || !httpRequest.getRequestURI().startsWith(ACTUATOR_PATH);
+    }
+
+    private void record(long uptimeMs) {
+        log.info("First request served {} ms after JVM start", uptimeMs);
+        TimeGauge.builder(METRIC_NAME, () -> uptimeMs, TimeUnit.MILLISECONDS)
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+    }
+}
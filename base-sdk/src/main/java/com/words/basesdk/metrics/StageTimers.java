@@ -0,0 +1,81 @@
+package com.words.basesdk.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-stage latency of the request pipeline, published as {@code words.pipeline.stage} tagged by
+ * controller, stage and outcome. Timers are resolved once per tag combination and cached, so recording
+ * costs a map lookup and a histogram increment; percentile histograms are bounded to 1 ms - 30 s.
+ */
+@Component
+public class StageTimers {
+
+    public static final String METRIC_NAME = "words.pipeline.stage";
+
+    public static final String STAGE_READ_BODY = "read_body";
+    public static final String STAGE_CERT = "cert_validation";
+    public static final String STAGE_SCHEMA = "schema_validation";
+    public static final String STAGE_BIND = "bind";
+    public static final String STAGE_SERVICE = "service";
+    public static final String STAGE_PUBLISH = "kafka_publish";
+    public static final String STAGE_TRACK = "track";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_EXCEPTION = "exception";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Value("${track.metrics.stage-timers.enabled:true}")
+    boolean enabled;
+
+    @Value("${track.metrics.stage-timers.percentile-histogram:true}")
+    boolean percentileHistogram;
+
+    public StageTimers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Drops every timer recorded so far, e.g. the samples taken while warming up.
+     */
+    public void reset() {
+        timers.values().forEach(meterRegistry::remove);
+        timers.clear();
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as returned by {@link #start()}.
+     */
+    public void recordSince(String controller, String stage, String outcome, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        timer(controller, stage, outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String controller, String stage, String outcome) {
+        return timers.computeIfAbsent(controller + '|' + stage + '|' + outcome, key -> Timer.builder(METRIC_NAME)
+                .description("Latency of a single request pipeline stage")
+                .tag("controller", controller)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(percentileHistogram)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,121 @@
+package com.words.basesdk.metrics;
+
+import com.words.basesdk.model.TrackLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lag of a TrackLog at each hop from the HTTP response to Mongo, published as {@code track.pipeline.lag}
+ * tagged by hop:
+ * <ul>
+ *     <li>publish: responseTs to the Kafka send in TrackAspect</li>
+ *     <li>consume: publish to receipt by the persist-service listener</li>
+ *     <li>persist: receipt to the completed Mongo write, including the async hand-off</li>
+ *     <li>end_to_end: responseTs to the completed Mongo write, i.e. until /words/search can return it</li>
+ *     <li>index: responseTs to the word-service in-memory index update</li>
+ * </ul>
+ * {@code track.pipeline.freshness} reports, per assigned partition, the age of the newest persisted TrackLog; the
+ * gauge is registered when the partition is assigned and removed when it is revoked.
+ * Hops spanning hosts rely on synchronized clocks; negative skew is clamped to zero.
+ */
+@Component
+public class TrackLogPipelineMetrics {
+
+    public static final String LAG_METRIC = "track.pipeline.lag";
+    public static final String FRESHNESS_METRIC = "track.pipeline.freshness";
+
+    public static final String HOP_PUBLISH = "publish";
+    public static final String HOP_CONSUME = "consume";
+    public static final String HOP_PERSIST = "persist";
+    public static final String HOP_END_TO_END = "end_to_end";
+    public static final String HOP_INDEX = "index";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Integer, Freshness> freshness = new ConcurrentHashMap<>();
+
+    public TrackLogPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void markPublished(TrackLog trackLog) {
+        trackLog.setPublishTs(Instant.now());
+        record(HOP_PUBLISH, trackLog.getResponseTs(), trackLog.getPublishTs());
+    }
+
+    public void markConsumed(TrackLog trackLog, int partition) {
+        trackLog.setConsumeTs(Instant.now());
+        trackLog.setPartition(partition);
+        record(HOP_CONSUME, trackLog.getPublishTs(), trackLog.getConsumeTs());
+    }
+
+    public void markPersisted(TrackLog trackLog) {
+        Instant now = Instant.now();
+        record(HOP_PERSIST, trackLog.getConsumeTs(), now);
+        record(HOP_END_TO_END, trackLog.getResponseTs(), now);
+        if (trackLog.getPartition() != null && trackLog.getResponseTs() != null) {
+            // Null once the partition has been revoked while the save was in flight
+            Freshness partition = freshness.get(trackLog.getPartition());
+            if (partition != null) {
+                partition.newestMs().accumulateAndGet(trackLog.getResponseTs().toEpochMilli(), Math::max);
+            }
+        }
+    }
+
+    public void partitionsAssigned(Collection<Integer> partitions) {
+        partitions.forEach(partition -> freshness.computeIfAbsent(partition, this::registerFreshnessGauge));
+    }
+
+    public void partitionsRevoked(Collection<Integer> partitions) {
+        for (Integer partition : partitions) {
+            Freshness removed = freshness.remove(partition);
+            if (removed != null) {
+                meterRegistry.remove(removed.gauge());
+            }
+        }
+    }
+
+    public void markIndexed(TrackLog trackLog) {
+        record(HOP_INDEX, trackLog.getResponseTs(), Instant.now());
+    }
+
+    private void record(String hop, Instant from, Instant to) {
+        if (from == null || to == null) {
+            return;
+        }
+        long lagMs = Math.max(0, to.toEpochMilli() - from.toEpochMilli());
+        timers.computeIfAbsent(hop, h -> Timer.builder(LAG_METRIC)
+                .description("Lag of a TrackLog at one hop of the tracking pipeline")
+                .tag("hop", h)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry))
+                .record(lagMs, TimeUnit.MILLISECONDS);
+    }
+
+    private Freshness registerFreshnessGauge(int partition) {
+        AtomicLong newest = new AtomicLong();
+        Gauge gauge = Gauge.builder(FRESHNESS_METRIC, newest,
+                        value -> value.get() == 0 ? Double.NaN : (System.currentTimeMillis() - value.get()) / 1000.0)
+                .description("Age of the newest persisted TrackLog on a partition")
+                .tag("partition", String.valueOf(partition))
+                .baseUnit("seconds")
+                .strongReference(true)
+                .register(meterRegistry);
+        return new Freshness(newest, gauge);
+    }
+
+    private record Freshness(AtomicLong newestMs, Gauge gauge) {
+    }
+}
@@ -6,43 +6,111 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+/**
+ * Request whose body has been read up front so that it can be read again, once by the @Track aspect and
+ * once by the controller. The body lives in {@code cachedBody[0, length)}; the array may be a pooled
+ * buffer that is larger than the body.
+ */
 public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 
     private final byte[] cachedBody;
+    private final int length;
 
     public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+        this(request, request.getInputStream().readAllBytes());
+    }
+
+    private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+        this(request, body, body.length);
+    }
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request, byte[] cachedBody, int length) {
         super(request);
-        InputStream requestInputStream = request.getInputStream();
-        this.cachedBody = requestInputStream.readAllBytes();
+        this.cachedBody = cachedBody;
+        this.length = length;
     }
 
     @Override
     public ServletInputStream getInputStream() {
-        return new CachedBodyServletInputStream(cachedBody);
+        return new CachedBodyServletInputStream(cachedBody, length);
     }
 
+    /**
+     * Decodes with the declared charset, falling back to UTF-8 (the JSON default) instead of the platform charset.
+     */
     @Override
     public BufferedReader getReader() {
-        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(cachedBody)));
+        return new BufferedReader(new InputStreamReader(getInputStream(), bodyCharset()));
+    }
+
+    @Override
+    public int getContentLength() {
+        return length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return length;
+    }
+
+    private Charset bodyCharset() {
+        String encoding = getCharacterEncoding();
+        try {
+            return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
     }
 
     private static class CachedBodyServletInputStream extends ServletInputStream {
 
-        private final ByteArrayInputStream inputStream;
+        private final byte[] body;
+        private final int length;
+        private int position;
 
-        public CachedBodyServletInputStream(byte[] cachedBody) {
-            this.inputStream = new ByteArrayInputStream(cachedBody);
+        CachedBodyServletInputStream(byte[] body, int length) {
+            this.body = body;
+            this.length = length;
         }
 
         @Override
         public int read() {
-            return inputStream.read();
+            return position < length ? body[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int count = Math.min(len, length - position);
+            if (count <= 0) {
+                return -1;
+            }
+            System.arraycopy(body, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public byte[] readAllBytes() {
+            byte[] remaining = Arrays.copyOfRange(body, position, length);
+            position = length;
+            return remaining;
+        }
+
+        @Override
+        public int available() {
+            return length - position;
         }
 
         @Override
         public boolean isFinished() {
-            return inputStream.available() == 0;
+            return position >= length;
         }
 
         @Override
@@ -1,5 +1,6 @@
 package com.words.basesdk.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +21,14 @@ public class TrackLog {
     private Instant responseTs;
     private long executionTimeMs;
     private String severity;
+    // Pipeline hop stamps; see TrackLogPipelineMetrics
+    private Instant publishTs;
+    private Instant consumeTs;
+    @JsonIgnore
+    private Integer partition;
+    @JsonIgnore
+    private Long offset;
+    // Re-published by the bulk exporter; already counted in rollups and pipeline metrics
+    @JsonIgnore
+    private boolean replayed;
 }
@@ -1,38 +1,117 @@
 package com.words.basesdk.model;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.time.Instant;
+
+/**
+ * Stored TrackLog. Field names are abbreviated and bodies are typed so every document carries only
+ * short keys, native BSON dates and no type hints; the full names are kept as LEGACY_* constants for
+ * documents written before the compact layout and still awaiting migration.
+ * In dedup mode the bodies are left out and {@code ph} references a {@link TrackLogPayloadDocument} instead.
+ */
 @Document(collection = "track_logs")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class TrackLogDocument {
+
+    public static final String ID_FIELD = "_id";
+    public static final String SERVICE_NAME_FIELD = "sn";
+    public static final String REQUEST_BODY_FIELD = "rq";
+    public static final String RESPONSE_BODY_FIELD = "rs";
+    public static final String SEVERITY_FIELD = "sv";
+    public static final String EXECUTION_TIME_FIELD = "et";
+    public static final String REQUEST_TS_FIELD = "qt";
+    public static final String RESPONSE_TS_FIELD = "pt";
+    public static final String PAYLOAD_HASH_FIELD = "ph";
+    public static final String SENTENCE_FIELD = REQUEST_BODY_FIELD + ".s";
+
+    public static final String LEGACY_SERVICE_NAME_FIELD = "serviceName";
+    public static final String LEGACY_REQUEST_BODY_FIELD = "requestBody";
+    public static final String LEGACY_RESPONSE_BODY_FIELD = "responseBody";
+    public static final String LEGACY_SEVERITY_FIELD = "severity";
+    public static final String LEGACY_EXECUTION_TIME_FIELD = "executionTimeMs";
+    public static final String LEGACY_REQUEST_TS_FIELD = "requestTs";
+    public static final String LEGACY_RESPONSE_TS_FIELD = "responseTs";
+    public static final String LEGACY_SENTENCE_FIELD = LEGACY_REQUEST_BODY_FIELD + ".sentence";
+
     @Id
     private String uniqueId;
+    @Field(SERVICE_NAME_FIELD)
     private String serviceName;
-    private Object requestBody;
-    private Object responseBody;
+    @Field(REQUEST_BODY_FIELD)
+    private ReverseSentenceReq requestBody;
+    @Field(RESPONSE_BODY_FIELD)
+    private ReverseSentenceRes responseBody;
+    @Field(SEVERITY_FIELD)
     private String severity;
+    @Field(EXECUTION_TIME_FIELD)
     private long executionTimeMs;
-    private Object requestTs;
-    private Object responseTs;
+    @Field(REQUEST_TS_FIELD)
+    private Instant requestTs;
+    @Field(RESPONSE_TS_FIELD)
+    private Instant responseTs;
+    @Field(PAYLOAD_HASH_FIELD)
+    private String payloadHash;
 
-    public static TrackLogDocument from(TrackLog log) {
+    /**
+     * @param mapper the shared mapper, used to bind bodies that arrived untyped, e.g. from Kafka
+     */
+    public static TrackLogDocument from(TrackLog log, ObjectMapper mapper) {
         return TrackLogDocument.builder()
                 .uniqueId(log.getUniqueId())
                 .serviceName(log.getServiceName())
-                .requestBody(log.getRequestBody())
-                .responseBody(log.getResponseBody())
-                .severity(String.valueOf(log.getSeverity()))
+                .requestBody(toBody(log.getRequestBody(), ReverseSentenceReq.class, mapper))
+                .responseBody(toBody(log.getResponseBody(), ReverseSentenceRes.class, mapper))
+                .severity(log.getSeverity())
                 .executionTimeMs(log.getExecutionTimeMs())
                 .requestTs(log.getRequestTs())
                 .responseTs(log.getResponseTs())
                 .build();
     }
+
+    public TrackLog toTrackLog() {
+        return TrackLog.builder()
+                .uniqueId(uniqueId)
+                .serviceName(serviceName)
+                .requestBody(requestBody)
+                .responseBody(responseBody)
+                .severity(severity)
+                .executionTimeMs(executionTimeMs)
+                .requestTs(requestTs)
+                .responseTs(responseTs)
+                .build();
+    }
+
+    /**
+     * Severity filter matching both layouts. Only for untyped queries on the collection: a query typed to this
+     * class maps the {@code severity} property to {@code sv}, so the legacy field could not be addressed.
+     */
+    public static Criteria severityIs(String severity) {
+        return new Criteria().orOperator(
+                Criteria.where(SEVERITY_FIELD).is(severity),
+                Criteria.where(LEGACY_SEVERITY_FIELD).is(severity));
+    }
+
+    private static <T> T toBody(Object body, Class<T> type, ObjectMapper mapper) {
+        if (body == null) {
+            return null;
+        }
+        if (type.isInstance(body)) {
+            return type.cast(body);
+        }
+        return mapper.convertValue(body, type);
+    }
 }
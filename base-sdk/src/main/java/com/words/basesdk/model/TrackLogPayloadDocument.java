@@ -0,0 +1,70 @@
+package com.words.basesdk.model;
+
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_PAYLOAD_COLLECTION;
+
+/**
+ * Request/response pair shared by every TrackLog with the same bodies, keyed by a hash of their compact form.
+ * TrackLog documents written in dedup mode carry only {@link TrackLogDocument#PAYLOAD_HASH_FIELD}.
+ * {@code ls} is refreshed at most once per touch interval per writer and drives the payload TTL.
+ */
+@org.springframework.data.mongodb.core.mapping.Document(collection = TRACK_LOG_PAYLOAD_COLLECTION)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackLogPayloadDocument {
+
+    public static final String HASH_FIELD = "_id";
+    public static final String REQUEST_BODY_FIELD = TrackLogDocument.REQUEST_BODY_FIELD;
+    public static final String RESPONSE_BODY_FIELD = TrackLogDocument.RESPONSE_BODY_FIELD;
+    public static final String LAST_SEEN_FIELD = "ls";
+    public static final String SENTENCE_FIELD = TrackLogDocument.SENTENCE_FIELD;
+
+    private static final int HASH_BYTES = 16;
+
+    @Id
+    private String hash;
+    @Field(REQUEST_BODY_FIELD)
+    private ReverseSentenceReq requestBody;
+    @Field(RESPONSE_BODY_FIELD)
+    private ReverseSentenceRes responseBody;
+    @Field(LAST_SEEN_FIELD)
+    private Instant lastSeen;
+
+    /**
+     * Content address of a payload: the first 128 bits of the SHA-256 of its compact bodies, base64url encoded.
+     * The compact converters emit fields in a fixed order, so equal bodies always hash alike.
+     */
+    public static String hashOf(Document requestBody, Document responseBody) {
+        Document payload = new Document();
+        if (requestBody != null) {
+            payload.put(REQUEST_BODY_FIELD, requestBody);
+        }
+        if (responseBody != null) {
+            payload.put(RESPONSE_BODY_FIELD, responseBody);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(payload.toJson().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
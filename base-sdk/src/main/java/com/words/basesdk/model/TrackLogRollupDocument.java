@@ -0,0 +1,37 @@
+package com.words.basesdk.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Pre-aggregated TrackLog latency for one time bucket and serviceName/severity pair.
+ * The histogram is keyed by {@link com.words.basesdk.util.LatencyHistogram} bucket index.
+ */
+@Document(collection = "track_log_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackLogRollupDocument {
+    @Id
+    private String id;
+    private String serviceName;
+    private String severity;
+    private Instant bucketStart;
+    private int bucketMinutes;
+    private long count;
+    private long totalMs;
+    private long maxMs;
+    private Map<String, Long> histogram;
+
+    public static String rollupId(String serviceName, String severity, int bucketMinutes, Instant bucketStart) {
+        return serviceName + "|" + severity + "|" + bucketMinutes + "|" + bucketStart.toEpochMilli();
+    }
+}
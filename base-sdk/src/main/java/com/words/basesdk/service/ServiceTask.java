@@ -11,4 +11,6 @@ public class ServiceTask {
     Object request;
     Object response;
     Map<String,String> errorMap;
+    // Bytes of the request body, reported on the JFR service stage
+    long requestBodySize;
 }
@@ -0,0 +1,255 @@
+package com.words.basesdk.service;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.result.UpdateResult;
+import com.words.basesdk.converter.ReverseSentenceReqWriteConverter;
+import com.words.basesdk.converter.ReverseSentenceResWriteConverter;
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.model.TrackLogPayloadDocument;
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+import static com.words.basesdk.model.TrackLogPayloadDocument.*;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_PAYLOAD_COLLECTION;
+
+/**
+ * Content-addressed storage of TrackLog bodies. With {@code track.storage.dedup.enabled} the writer stores each
+ * distinct request/response pair once in track_log_payloads and keeps only its hash on the TrackLog document;
+ * readers hydrate referenced bodies through a small LRU of hot payloads. Hydration does not depend on the flag,
+ * so documents written in either mode can always be read. Cached bodies are shared between documents and
+ * must not be modified.
+ */
+@Slf4j
+@Component
+public class TrackLogPayloadStore {
+
+    public static final String WRITES_METRIC = "track.payload.writes";
+    public static final String CACHE_METRIC = "track.payload.cache";
+
+    private static final String PAYLOAD_TEXT_INDEX_NAME = "rq_s_text";
+    private static final String PAYLOAD_HASH_INDEX_NAME = "ph_1";
+
+    private final MongoTemplate mongoTemplate;
+    private final ReverseSentenceReqWriteConverter requestConverter = new ReverseSentenceReqWriteConverter();
+    private final ReverseSentenceResWriteConverter responseConverter = new ReverseSentenceResWriteConverter();
+    private final Map<String, CachedPayload> cache;
+
+    private final Counter inserted;
+    private final Counter existing;
+    private final Counter skipped;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    @Value("${track.storage.dedup.enabled:false}")
+    boolean enabled;
+
+    /**
+     * A writer that stored a payload less than this long ago does not write it again, only the reference.
+     * Also added to the payload TTL so that a payload always outlives the TrackLogs pointing at it.
+     */
+    @Value("${track.storage.dedup.touch-interval-ms:3600000}")
+    long touchIntervalMs;
+
+    public TrackLogPayloadStore(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                                @Value("${track.storage.dedup.cache-size:10000}") int cacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPayload> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.inserted = Counter.builder(WRITES_METRIC).tag("outcome", "inserted").register(meterRegistry);
+        this.existing = Counter.builder(WRITES_METRIC).tag("outcome", "existing").register(meterRegistry);
+        this.skipped = Counter.builder(WRITES_METRIC).tag("outcome", "cached").register(meterRegistry);
+        this.cacheHits = Counter.builder(CACHE_METRIC).tag("result", "hit").register(meterRegistry);
+        this.cacheMisses = Counter.builder(CACHE_METRIC).tag("result", "miss").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getTouchIntervalMs() {
+        return touchIntervalMs;
+    }
+
+    /**
+     * Stores the bodies of the given document as a shared payload, unless this writer did so recently, and
+     * replaces them on the document with the payload hash.
+     */
+    public void externalize(TrackLogDocument doc) {
+        if (doc.getRequestBody() == null && doc.getResponseBody() == null) {
+            return;
+        }
+        Document requestBody = doc.getRequestBody() == null ? null : requestConverter.convert(doc.getRequestBody());
+        Document responseBody = doc.getResponseBody() == null ? null : responseConverter.convert(doc.getResponseBody());
+        String hash = hashOf(requestBody, responseBody);
+        long now = System.currentTimeMillis();
+        CachedPayload cached = cache.get(hash);
+        if (cached != null && now - cached.touchedMs() < touchIntervalMs) {
+            skipped.increment();
+        } else {
+            upsert(hash, requestBody, responseBody, now);
+            cache.put(hash, new CachedPayload(doc.getRequestBody(), doc.getResponseBody(), now));
+        }
+        doc.setPayloadHash(hash);
+        doc.setRequestBody(null);
+        doc.setResponseBody(null);
+    }
+
+    private void upsert(String hash, Document requestBody, Document responseBody, long now) {
+        Update update = new Update().max(LAST_SEEN_FIELD, new Date(now));
+        if (requestBody != null) {
+            update.setOnInsert(REQUEST_BODY_FIELD, requestBody);
+        }
+        if (responseBody != null) {
+            update.setOnInsert(RESPONSE_BODY_FIELD, responseBody);
+        }
+        try {
+            UpdateResult result = mongoTemplate.upsert(new Query(Criteria.where(HASH_FIELD).is(hash)), update,
+                    TRACK_LOG_PAYLOAD_COLLECTION);
+            (result.getUpsertedId() != null ? inserted : existing).increment();
+        } catch (DuplicateKeyException e) {
+            // Another writer inserted the same payload concurrently
+            existing.increment();
+        }
+    }
+
+    /**
+     * Fills in the bodies of documents that only reference a payload, loading cache misses in a single query.
+     */
+    public void hydrate(List<TrackLogDocument> docs) {
+        Map<String, List<TrackLogDocument>> pending = new HashMap<>();
+        for (TrackLogDocument doc : docs) {
+            if (doc.getPayloadHash() == null || doc.getRequestBody() != null || doc.getResponseBody() != null) {
+                continue;
+            }
+            CachedPayload cached = cache.get(doc.getPayloadHash());
+            if (cached != null) {
+                cacheHits.increment();
+                apply(doc, cached);
+            } else {
+                pending.computeIfAbsent(doc.getPayloadHash(), hash -> new ArrayList<>()).add(doc);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        cacheMisses.increment(pending.size());
+        Query query = new Query(Criteria.where(HASH_FIELD).in(pending.keySet()));
+        query.fields().exclude(LAST_SEEN_FIELD);
+        for (TrackLogPayloadDocument payload : mongoTemplate.find(query, TrackLogPayloadDocument.class)) {
+            CachedPayload loaded = new CachedPayload(payload.getRequestBody(), payload.getResponseBody(), 0L);
+            cache.putIfAbsent(payload.getHash(), loaded);
+            for (TrackLogDocument doc : pending.remove(payload.getHash())) {
+                apply(doc, loaded);
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.warn("{} TrackLog payloads not found, e.g. {}", pending.size(), pending.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Copies referenced bodies into raw TrackLog documents, e.g. before they leave Mongo for the archive.
+     * Bypasses the cache: archived payloads are cold by definition.
+     */
+    public void inline(List<Document> docs) {
+        Set<Object> hashes = new HashSet<>();
+        for (Document doc : docs) {
+            if (doc.get(TrackLogDocument.PAYLOAD_HASH_FIELD) != null) {
+                hashes.add(doc.get(TrackLogDocument.PAYLOAD_HASH_FIELD));
+            }
+        }
+        if (hashes.isEmpty()) {
+            return;
+        }
+        Map<Object, Document> payloads = new HashMap<>();
+        for (Document payload : mongoTemplate.find(new Query(Criteria.where(HASH_FIELD).in(hashes)),
+                Document.class, TRACK_LOG_PAYLOAD_COLLECTION)) {
+            payloads.put(payload.get(HASH_FIELD), payload);
+        }
+        for (Document doc : docs) {
+            Document payload = payloads.get(doc.get(TrackLogDocument.PAYLOAD_HASH_FIELD));
+            if (payload == null) {
+                continue;
+            }
+            doc.remove(TrackLogDocument.PAYLOAD_HASH_FIELD);
+            putIfPresent(doc, REQUEST_BODY_FIELD, payload.get(REQUEST_BODY_FIELD));
+            putIfPresent(doc, RESPONSE_BODY_FIELD, payload.get(RESPONSE_BODY_FIELD));
+        }
+    }
+
+    /**
+     * Hashes of stored payloads whose sentence matches the given words, via the text index on track_log_payloads.
+     */
+    public List<String> hashesMatching(String text, int limit) {
+        return hashesMatching(text, limit, null, null);
+    }
+
+    /**
+     * As {@link #hashesMatching(String, int)}, bounded by {@code maxTime} on the server and read with the given
+     * preference; either may be null to keep the connection default.
+     */
+    public List<String> hashesMatching(String text, int limit, Duration maxTime, ReadPreference readPreference) {
+        Query query = new Query(TextCriteria.forDefaultLanguage().matching(text)).limit(limit);
+        query.fields().include(HASH_FIELD);
+        if (maxTime != null) {
+            query.maxTime(maxTime);
+        }
+        if (readPreference != null) {
+            query.withReadPreference(readPreference);
+        }
+        return mongoTemplate.find(query, TrackLogPayloadDocument.class).stream()
+                .map(TrackLogPayloadDocument::getHash)
+                .toList();
+    }
+
+    /**
+     * Text index for word searches over payload sentences, and the index resolving a payload to its TrackLogs.
+     */
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(TRACK_LOG_PAYLOAD_COLLECTION).createIndex(TextIndexDefinition.builder()
+                .onField(SENTENCE_FIELD)
+                .named(PAYLOAD_TEXT_INDEX_NAME)
+                .build());
+        mongoTemplate.indexOps(TRACK_LOG_COLLECTION).createIndex(new Index()
+                .on(TrackLogDocument.PAYLOAD_HASH_FIELD, Sort.Direction.ASC)
+                .named(PAYLOAD_HASH_INDEX_NAME)
+                .sparse());
+    }
+
+    private static void apply(TrackLogDocument doc, CachedPayload payload) {
+        doc.setRequestBody(payload.requestBody());
+        doc.setResponseBody(payload.responseBody());
+    }
+
+    private static void putIfPresent(Document doc, String key, Object value) {
+        if (value != null) {
+            doc.put(key, value);
+        }
+    }
+
+    private record CachedPayload(ReverseSentenceReq requestBody, ReverseSentenceRes responseBody, long touchedMs) {
+    }
+}
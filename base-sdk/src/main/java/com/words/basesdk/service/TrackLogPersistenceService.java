@@ -3,7 +3,15 @@ package com.words.basesdk.service;
 
 import com.words.basesdk.model.TrackLog;
 
+import java.util.Collection;
+
 public interface TrackLogPersistenceService {
     void save(TrackLog log);
+
+    /**
+     * Called when the TrackLog consumer is assigned partitions, before their records are delivered.
+     */
+    default void partitionsAssigned(Collection<Integer> partitions) {
+    }
 }
 
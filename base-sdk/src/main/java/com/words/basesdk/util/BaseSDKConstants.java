@@ -2,7 +2,16 @@ package com.words.basesdk.util;
 
 public class BaseSDKConstants {
     public static final String TRACK_LOG_COLLECTION = "track_logs";
+    public static final String TRACK_LOG_PAYLOAD_COLLECTION = "track_log_payloads";
+    public static final String TRACK_LOG_ROLLUP_COLLECTION = "track_log_rollups";
+    public static final String TRACK_LOG_ROLLUP_OFFSET_COLLECTION = "track_log_rollup_offsets";
+    public static final String TRACK_LOG_REPLAY_HEADER = "track-replay";
+    public static final String ARCHIVE_SEGMENT_PREFIX = "track_logs-";
+    public static final String ARCHIVE_SEGMENT_SUFFIX = ".ndjson.gz";
     public static final String INVALID_CERT_ERROR_CODE = "1001";
     public static final String SCHEMA_VALIDATION_ERROR_CODE = "1002";
     public static final String INTERNAL_SERVER_ERROR_CODE = "1003";
+    public static final String PAYLOAD_TOO_LARGE_ERROR_CODE = "1004";
+    public static final String OVERLOADED_ERROR_CODE = "1010";
+    public static final String WARMUP_REQUEST_ATTRIBUTE = "com.words.basesdk.warmup";
 }
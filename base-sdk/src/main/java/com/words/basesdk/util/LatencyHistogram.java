@@ -0,0 +1,86 @@
+package com.words.basesdk.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-bucket latency histogram layout shared by every producer and reader of latency aggregates.
+ * Buckets are addressed by index so sparse counts can be stored as a map and merged by simple addition.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MS = {
+            1, 2, 3, 4, 5, 6, 8, 10, 12, 15, 20, 25, 30, 40, 50, 60, 80, 100,
+            120, 150, 200, 250, 300, 400, 500, 600, 800, 1000, 1200, 1500, 2000, 2500,
+            3000, 4000, 5000, 6000, 8000, 10000, 15000, 20000, 30000, 60000
+    };
+
+    public static final int BUCKET_COUNT = BUCKET_UPPER_BOUNDS_MS.length + 1;
+
+    public static int bucketIndex(long valueMs) {
+        int low = 0;
+        int high = BUCKET_UPPER_BOUNDS_MS.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (BUCKET_UPPER_BOUNDS_MS[mid] < valueMs) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the upper bound of the bucket, or {@code Long.MAX_VALUE} for the overflow bucket
+     */
+    public static long upperBound(int bucketIndex) {
+        return bucketIndex < BUCKET_UPPER_BOUNDS_MS.length ? BUCKET_UPPER_BOUNDS_MS[bucketIndex] : Long.MAX_VALUE;
+    }
+
+    public static void merge(Map<String, Long> target, Map<String, Long> source) {
+        if (source != null) {
+            source.forEach((bucket, count) -> target.merge(bucket, count, Long::sum));
+        }
+    }
+
+    public static long[] toArray(Map<String, Long> counts) {
+        long[] array = new long[BUCKET_COUNT];
+        if (counts != null) {
+            counts.forEach((bucket, count) -> array[Integer.parseInt(bucket)] += count);
+        }
+        return array;
+    }
+
+    public static Map<String, Long> toMap(long[] counts) {
+        Map<String, Long> map = new HashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                map.put(String.valueOf(i), counts[i]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Estimates the q-th quantile as the upper bound of the bucket holding it, capped at the observed maximum.
+     */
+    public static long percentile(long[] counts, double quantile, long maxMs) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxMs);
+            }
+        }
+        return maxMs;
+    }
+}
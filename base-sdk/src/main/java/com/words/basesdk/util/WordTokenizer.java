@@ -0,0 +1,58 @@
+package com.words.basesdk.util;
+
+import com.words.schema.reverse.ReverseSentenceReq;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits tracked sentences into normalized words: runs of letters/digits, lower-cased.
+ * Shared by every component that indexes or counts words so that they all agree on what a word is.
+ */
+public class WordTokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 64;
+    private static final String SENTENCE = "sentence";
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public static Set<String> distinctTokens(String text) {
+        return new LinkedHashSet<>(tokenize(text));
+    }
+
+    /**
+     * Extracts the sentence from a tracked request body, which is either the bound request type
+     * or the generic map produced by Kafka/Mongo deserialization.
+     */
+    public static String sentenceOf(Object requestBody) {
+        if (requestBody instanceof ReverseSentenceReq req) {
+            return req.getSentence();
+        }
+        if (requestBody instanceof Map<?, ?> map && map.get(SENTENCE) instanceof String sentence) {
+            return sentence;
+        }
+        return null;
+    }
+}
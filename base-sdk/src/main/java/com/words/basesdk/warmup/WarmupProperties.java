@@ -0,0 +1,41 @@
+package com.words.basesdk.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.warmup")
+public class WarmupProperties {
+    private boolean enabled;
+    /**
+     * Replays of every configured request; C2 compiles a method after roughly 10k invocations of its hot loop.
+     */
+    private int iterations = 1000;
+    private Duration maxDuration = Duration.ofSeconds(30);
+    private boolean kafkaMetadata = true;
+    private Duration kafkaMetadataTimeout = Duration.ofSeconds(5);
+    private Duration requestTimeout = Duration.ofSeconds(5);
+    /**
+     * Client identity presented to the server's own TLS connector; it has to pass the same checks as real clients.
+     */
+    private String keyStore;
+    private String keyStorePassword = "";
+    private String keyStoreType = "PKCS12";
+    private List<Request> requests = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Request {
+        private String method = "POST";
+        private String path;
+        private String body;
+        private String contentType = MediaType.APPLICATION_JSON_VALUE;
+    }
+}
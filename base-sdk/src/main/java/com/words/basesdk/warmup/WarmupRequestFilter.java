@@ -0,0 +1,57 @@
+package com.words.basesdk.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static com.words.basesdk.util.BaseSDKConstants.WARMUP_REQUEST_ATTRIBUTE;
+
+/**
+ * Marks the loopback requests of {@link WarmupRunner} with {@code WARMUP_REQUEST_ATTRIBUTE}. They are recognised
+ * by a header carrying a token generated per process, so clients cannot pass their requests off as warm-up.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "track.warmup.enabled", havingValue = "true")
+public class WarmupRequestFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_HEADER = "X-Warmup-Token";
+
+    private final byte[] token;
+
+    public WarmupRequestFilter() {
+        byte[] random = new byte[24];
+        new SecureRandom().nextBytes(random);
+        this.token = Base64.getUrlEncoder().withoutPadding().encode(random);
+    }
+
+    String token() {
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(TOKEN_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (MessageDigest.isEqual(token, request.getHeader(TOKEN_HEADER).getBytes(StandardCharsets.US_ASCII))) {
+            request.setAttribute(WARMUP_REQUEST_ATTRIBUTE, Boolean.TRUE);
+        }
+        chain.doFilter(request, response);
+    }
+}
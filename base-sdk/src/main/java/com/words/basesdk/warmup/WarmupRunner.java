@@ -0,0 +1,187 @@
+package com.words.basesdk.warmup;
+
+import com.words.basesdk.metrics.StageTimers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the configured synthetic requests over HTTP against the instance's own port before it reports ready,
+ * so they take the same path as real traffic: Tomcat and TLS, the body caching filter, DispatcherServlet, the
+ * @Track aspect, controllers and message converters. Application runners complete after the web server has
+ * started but before Spring Boot publishes ACCEPTING_TRAFFIC, so the readiness probe stays down until the JIT,
+ * schema cache and Jackson serializers are warm.
+ * <p>
+ * With TLS the client presents the {@code key-store} identity, which the server has to trust like any client
+ * certificate, and trusts the server's own certificate. Requests carry the {@link WarmupRequestFilter} token, so
+ * their TrackLogs are never published. Stage timers recorded during warm-up are discarded. The time spent
+ * warming up is published as {@code application.warmup.time}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(name = "track.warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    public static final String METRIC_NAME = "application.warmup.time";
+
+    private final ApplicationContext context;
+    private final WarmupRequestFilter warmupRequestFilter;
+    private final ObjectProvider<KafkaTemplate<String, Object>> kafkaTemplate;
+    private final StageTimers stageTimers;
+    private final MeterRegistry meterRegistry;
+    private final WarmupProperties properties;
+
+    @Value("${track.kafka.topic:words.track.aspect}")
+    String trackLogTopicName;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        long deadline = started + properties.getMaxDuration().toNanos();
+        int replayed = 0;
+        int serverErrors = 0;
+        try {
+            if (properties.isKafkaMetadata()) {
+                fetchKafkaMetadata();
+            }
+            Environment environment = context.getEnvironment();
+            String port = environment.getProperty("local.server.port");
+            if (port == null) {
+                log.warn("Warm-up skipped: no web server port");
+                return;
+            }
+            boolean ssl = environment.getProperty("server.ssl.enabled", Boolean.class, false);
+            String baseUri = (ssl ? "https" : "http") + "://localhost:" + port;
+            HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(properties.getRequestTimeout());
+            if (ssl) {
+                clientBuilder.sslContext(sslContext(environment));
+            }
+            HttpClient client = clientBuilder.build();
+            replay:
+            for (int i = 0; i < properties.getIterations(); i++) {
+                for (WarmupProperties.Request request : properties.getRequests()) {
+                    if (System.nanoTime() > deadline) {
+                        log.warn("Warm-up stopped after reaching its {} limit", properties.getMaxDuration());
+                        break replay;
+                    }
+                    int status = client.send(toRequest(baseUri, request), HttpResponse.BodyHandlers.discarding())
+                            .statusCode();
+                    // 4xx is expected from requests that exercise the validation path
+                    if (status >= 500 && serverErrors++ == 0) {
+                        log.warn("Warm-up request {} {} returned {}", request.getMethod(), request.getPath(), status);
+                    }
+                    replayed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warm-up interrupted");
+        } catch (Exception e) {
+            log.warn("Warm-up aborted: {}", e.getMessage(), e);
+        } finally {
+            stageTimers.reset();
+            long elapsedNanos = System.nanoTime() - started;
+            TimeGauge.builder(METRIC_NAME, () -> elapsedNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent replaying warm-up requests before reporting ready")
+                    .register(meterRegistry);
+            log.info("Warm-up replayed {} requests ({} server errors) in {} ms", replayed, serverErrors,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    private void fetchKafkaMetadata() {
+        KafkaTemplate<String, Object> template = kafkaTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> template.partitionsFor(trackLogTopicName))
+                    .get(properties.getKafkaMetadataTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Warm-up could not fetch metadata for topic {}: {}", trackLogTopicName, e.getMessage());
+        }
+    }
+
+    private HttpRequest toRequest(String baseUri, WarmupProperties.Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + request.getPath()))
+                .timeout(properties.getRequestTimeout())
+                .header(WarmupRequestFilter.TOKEN_HEADER, warmupRequestFilter.token());
+        if (request.getBody() != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, request.getContentType())
+                    .method(request.getMethod(), HttpRequest.BodyPublishers.ofString(request.getBody()));
+        } else {
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Presents the warm-up key store as the client identity and trusts only the certificates of the server's own
+     * key store; the request never leaves the host.
+     */
+    private SSLContext sslContext(Environment environment) throws Exception {
+        KeyManagerFactory keyManagers = null;
+        if (properties.getKeyStore() != null) {
+            char[] password = properties.getKeyStorePassword().toCharArray();
+            KeyStore keyStore = load(properties.getKeyStore(), properties.getKeyStoreType(), password);
+            keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagers.init(keyStore, password);
+        } else {
+            log.warn("track.warmup.key-store is not set; warm-up requests will fail client certificate checks");
+        }
+        KeyStore serverStore = load(environment.getRequiredProperty("server.ssl.key-store"),
+                environment.getProperty("server.ssl.key-store-type", "PKCS12"),
+                environment.getProperty("server.ssl.key-store-password", "").toCharArray());
+        KeyStore trusted = KeyStore.getInstance(KeyStore.getDefaultType());
+        trusted.load(null, null);
+        for (String alias : Collections.list(serverStore.aliases())) {
+            Certificate certificate = serverStore.getCertificate(alias);
+            if (certificate != null) {
+                trusted.setCertificateEntry(alias, certificate);
+            }
+        }
+        TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagers.init(trusted);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagers != null ? keyManagers.getKeyManagers() : null, trustManagers.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    private KeyStore load(String location, String type, char[] password) throws Exception {
+        try (InputStream in = context.getResource(location).getInputStream()) {
+            KeyStore keyStore = KeyStore.getInstance(type);
+            keyStore.load(in, password);
+            return keyStore;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.words.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop (or, with a target rate, paced) mTLS traffic against word-service using a weighted endpoint mix.
+ * When paced, latency is measured from each request's intended start so that stalls are not hidden
+ * (coordinated omission).
+ */
+@Slf4j
+class LoadGenerator {
+
+    static final Map<String, String> ENDPOINTS = Map.of(
+            "reverse", "/words/reverse",
+            "search", "/words/search");
+
+    private static final int VOCABULARY_SIZE = 2000;
+    private static final long MAX_LATENCY_US = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final List<String> vocabulary = vocabulary();
+    private final String[] weightedEndpoints;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> successes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    LoadGenerator(HttpClient client, String baseUrl, LoadTestOptions options) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.options = options;
+        List<String> weighted = new ArrayList<>();
+        options.getMix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+            recorders.put(endpoint, new Recorder(MAX_LATENCY_US, 3));
+            successes.put(endpoint, new LongAdder());
+            failures.put(endpoint, new LongAdder());
+        });
+        this.weightedEndpoints = weighted.toArray(String[]::new);
+    }
+
+    /**
+     * Runs warm-up then measurement; {@code onMeasurementStart} fires once, between the two.
+     */
+    Map<String, EndpointResult> run(Runnable onMeasurementStart) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + options.getWarmup().toNanos();
+        long end = warmupEnd + options.getDuration().toNanos();
+        long intervalNanos = options.getRate() > 0
+                ? TimeUnit.SECONDS.toNanos(1) * options.getConcurrency() / options.getRate()
+                : 0;
+        ExecutorService workers = Executors.newFixedThreadPool(options.getConcurrency());
+        for (int i = 0; i < options.getConcurrency(); i++) {
+            long firstStart = System.nanoTime() + (intervalNanos > 0 ? intervalNanos * i / options.getConcurrency() : 0);
+            workers.submit(() -> work(firstStart, intervalNanos, end));
+        }
+        log.info("Warming up for {} s with {} workers", options.getWarmup().toSeconds(), options.getConcurrency());
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        recorders.values().forEach(Recorder::reset);
+        successes.values().forEach(LongAdder::reset);
+        failures.values().forEach(LongAdder::reset);
+        onMeasurementStart.run();
+        log.info("Measuring for {} s", options.getDuration().toSeconds());
+        workers.shutdown();
+        if (!workers.awaitTermination(options.getDuration().toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> results.put(endpoint, new EndpointResult(
+                recorder.getIntervalHistogram(), successes.get(endpoint).sum(), failures.get(endpoint).sum())));
+        return results;
+    }
+
+    private void work(long firstStart, long intervalNanos, long end) {
+        long intendedStart = firstStart;
+        while (intendedStart < end) {
+            if (intervalNanos > 0) {
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            String endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request(endpoint), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() / 100 == 2;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long latencyUs = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+            recorders.get(endpoint).recordValue(Math.min(latencyUs, MAX_LATENCY_US));
+            (ok ? successes : failures).get(endpoint).increment();
+            intendedStart = intervalNanos > 0 ? intendedStart + intervalNanos : System.nanoTime();
+        }
+    }
+
+    private HttpRequest request(String endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String body;
+        if ("search".equals(endpoint)) {
+            body = "{\"word\":\"" + vocabulary.get(random.nextInt(vocabulary.size())) + "\"}";
+        } else {
+            StringJoiner sentence = new StringJoiner(" ");
+            int words = 3 + random.nextInt(6);
+            for (int i = 0; i < words; i++) {
+                sentence.add(vocabulary.get(random.nextInt(vocabulary.size())));
+            }
+            body = "{\"sentence\":\"" + sentence + "\"}";
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + ENDPOINTS.get(endpoint)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static List<String> vocabulary() {
+        Random random = new Random(7);
+        List<String> words = new ArrayList<>(VOCABULARY_SIZE);
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            char[] word = new char[3 + random.nextInt(8)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('a' + random.nextInt(26));
+            }
+            words.add(new String(word));
+        }
+        return words;
+    }
+
+    record EndpointResult(Histogram latencyUs, long successes, long failures) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.words.loadtest;
+
+import de.bwaldvogel.mongo.MongoServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test on a single box. Starts an in-process KRaft broker and an in-memory Mongo wire
+ * server, launches word-service and persist-service against them, drives mTLS traffic and reports
+ * throughput, latency percentiles and persistence lag. With {@code --external=true} only traffic is
+ * generated, against services that are already running (no persistence lag in that mode).
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    private static final String LOOPBACK = "127.0.0.1";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ExecutorService httpExecutor = Executors.newCachedThreadPool();
+        try {
+            HttpClient client = MtlsClients.create(options.getCertDir(), httpExecutor);
+            LoadTestReport report = options.isExternal() ? runExternal(options, client) : runLocal(options, client);
+            report.print();
+            log.info("Report written to {}", report.write(options.getReportDir()).toAbsolutePath());
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+        System.exit(0);
+    }
+
+    private static LoadTestReport runExternal(LoadTestOptions options, HttpClient client) throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(client, options.baseUrl(options.getWordServicePort()), options);
+        return LoadTestReport.of(options, generator.run(() -> { }), null, 0);
+    }
+
+    private static LoadTestReport runLocal(LoadTestOptions options, HttpClient client) throws Exception {
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, options.getPartitions(), options.getTopic());
+        if (options.getKafkaPort() > 0) {
+            kafka.kafkaPorts(options.getKafkaPort());
+        }
+        PersistenceObserver observer = new PersistenceObserver();
+        MongoServer mongo = new MongoServer(observer);
+        List<ServiceProcess> services = new ArrayList<>();
+        try {
+            kafka.afterPropertiesSet();
+            mongo.bind(LOOPBACK, options.getMongoPort());
+            InetSocketAddress mongoAddress = mongo.getLocalAddress();
+            log.info("Kafka stand-in at {}, Mongo stand-in at {}", kafka.getBrokersAsString(), mongoAddress);
+
+            List<String> shared = List.of(
+                    "--spring.mongodb.connection-uri=mongodb://" + LOOPBACK + ":" + mongoAddress.getPort(),
+                    "--kafka.producer.bootstrap-servers=" + kafka.getBrokersAsString(),
+                    "--kafka.producer.security-protocol=PLAINTEXT",
+                    "--kafka.consumer.bootstrap-servers=" + kafka.getBrokersAsString(),
+                    "--kafka.consumer.security-protocol=PLAINTEXT",
+                    "--track.kafka.topic=" + options.getTopic());
+            Path logDir = options.getReportDir().resolve("logs");
+
+            List<String> persistArgs = new ArrayList<>(shared);
+            persistArgs.add("--server.port=" + options.getPersistServicePort());
+            persistArgs.add("--track.kafka.consumer.enabled=true");
+            persistArgs.add("--track.retention.enabled=false");
+            ServiceProcess persistService = ServiceProcess.start("persist-service", options.getPersistServiceJar(),
+                    options.getServiceJvmArgs(), persistArgs, logDir);
+            services.add(persistService);
+
+            List<String> wordArgs = new ArrayList<>(shared);
+            wordArgs.add("--server.port=" + options.getWordServicePort());
+            wordArgs.add("--words.index.snapshot-path=" + options.getReportDir().resolve("word-index.snapshot"));
+            wordArgs.add("--words.archive.enabled=false");
+            ServiceProcess wordService = ServiceProcess.start("word-service", options.getWordServiceJar(),
+                    options.getServiceJvmArgs(), wordArgs, logDir);
+            services.add(wordService);
+
+            persistService.awaitHealthy(client, options.baseUrl(options.getPersistServicePort()), options.getStartupTimeout());
+            wordService.awaitHealthy(client, options.baseUrl(options.getWordServicePort()), options.getStartupTimeout());
+
+            LoadGenerator generator = new LoadGenerator(client, options.baseUrl(options.getWordServicePort()), options);
+            Map<String, LoadGenerator.EndpointResult> results =
+                    generator.run(() -> observer.startMeasuring(System.currentTimeMillis()));
+            long tracked = results.containsKey("reverse") ? results.get("reverse").latencyUs().getTotalCount() : 0;
+            awaitPersistence(observer, tracked, options);
+            return LoadTestReport.of(options, results, observer.lagHistogramMs(), observer.persistedCount());
+        } finally {
+            for (ServiceProcess service : services) {
+                service.close();
+            }
+            mongo.shutdownNow();
+            kafka.destroy();
+        }
+    }
+
+    /**
+     * Gives persist-service up to the drain period to catch up with the tracked requests before reporting.
+     */
+    private static void awaitPersistence(PersistenceObserver observer, long tracked, LoadTestOptions options)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + options.getDrain().toNanos();
+        while (observer.persistedCount() < tracked && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+        }
+        if (observer.persistedCount() < tracked) {
+            log.warn("Only {} of {} tracked requests persisted after {} s drain",
+                    observer.persistedCount(), tracked, options.getDrain().toSeconds());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.words.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}. Paths are relative to the load-test directory.
+ */
+@Getter
+public class LoadTestOptions {
+
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration drain = Duration.ofSeconds(15);
+    private int concurrency = 32;
+    private int rate;
+    private Map<String, Integer> mix = parseMix("reverse=80,search=20");
+
+    private boolean external;
+    private String host = "localhost";
+    private int wordServicePort = 8080;
+    private int persistServicePort = 8085;
+    private Path wordServiceJar = Path.of("../word-service/build/libs/words-service-0.0.1-SNAPSHOT.jar");
+    private Path persistServiceJar = Path.of("../persist-service/build/libs/persist-service-0.0.1-SNAPSHOT.jar");
+    private String serviceJvmArgs = "-Xmx512m";
+    private Duration startupTimeout = Duration.ofSeconds(120);
+
+    private int kafkaPort;
+    private int mongoPort;
+    private String topic = "words.track.aspect";
+    private int partitions = 3;
+
+    private Path certDir = Path.of("../Postman Certs");
+    private Path reportDir = Path.of("build/reports/load-test");
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "duration" -> options.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "drain" -> options.drain = Duration.ofSeconds(Long.parseLong(value));
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "rate" -> options.rate = Integer.parseInt(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "external" -> options.external = Boolean.parseBoolean(value);
+                case "host" -> options.host = value;
+                case "word-service-port" -> options.wordServicePort = Integer.parseInt(value);
+                case "persist-service-port" -> options.persistServicePort = Integer.parseInt(value);
+                case "word-service-jar" -> options.wordServiceJar = Path.of(value);
+                case "persist-service-jar" -> options.persistServiceJar = Path.of(value);
+                case "service-jvm-args" -> options.serviceJvmArgs = value;
+                case "startup-timeout" -> options.startupTimeout = Duration.ofSeconds(Long.parseLong(value));
+                case "kafka-port" -> options.kafkaPort = Integer.parseInt(value);
+                case "mongo-port" -> options.mongoPort = Integer.parseInt(value);
+                case "topic" -> options.topic = value;
+                case "partitions" -> options.partitions = Integer.parseInt(value);
+                case "cert-dir" -> options.certDir = Path.of(value);
+                case "report-dir" -> options.reportDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Parses weights such as {@code reverse=80,search=20}.
+     */
+    static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split("=");
+            String endpoint = kv[0].trim();
+            if (!LoadGenerator.ENDPOINTS.containsKey(endpoint)) {
+                throw new IllegalArgumentException("Unknown endpoint in mix: " + endpoint);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(endpoint, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one endpoint with a positive weight");
+        }
+        return mix;
+    }
+
+    public String baseUrl(int port) {
+        return "https://" + host + ":" + port;
+    }
+}
@@ -0,0 +1,81 @@
+package com.words.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per endpoint plus persistence lag, printed and written as JSON.
+ */
+record LoadTestReport(Map<String, Object> settings, Map<String, Stats> endpoints, Stats persistenceLag,
+                      long trackedRequests, long persistedDocuments) {
+
+    private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    record Stats(long count, long failures, double throughputPerSec,
+                 double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static Stats of(Histogram histogram, double toMs, long failures, double seconds) {
+            long count = histogram.getTotalCount();
+            return new Stats(count, failures, round(count / seconds),
+                    round(histogram.getValueAtPercentile(50) * toMs),
+                    round(histogram.getValueAtPercentile(99) * toMs),
+                    round(histogram.getValueAtPercentile(99.9) * toMs),
+                    round(histogram.getMaxValue() * toMs));
+        }
+    }
+
+    static LoadTestReport of(LoadTestOptions options, Map<String, LoadGenerator.EndpointResult> results,
+                             Histogram lagMs, long persistedDocuments) {
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        Map<String, Stats> endpoints = new LinkedHashMap<>();
+        results.forEach((endpoint, result) -> endpoints.put(endpoint,
+                Stats.of(result.latencyUs(), 0.001, result.failures(), seconds)));
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("durationSec", options.getDuration().toSeconds());
+        settings.put("warmupSec", options.getWarmup().toSeconds());
+        settings.put("concurrency", options.getConcurrency());
+        settings.put("rate", options.getRate());
+        settings.put("mix", options.getMix());
+        settings.put("topic", options.getTopic());
+        settings.put("partitions", options.getPartitions());
+        LoadGenerator.EndpointResult reverse = results.get("reverse");
+        long tracked = reverse == null ? 0 : reverse.latencyUs().getTotalCount();
+        return new LoadTestReport(settings, endpoints,
+                lagMs == null ? null : Stats.of(lagMs, 1.0, 0, seconds), tracked, persistedDocuments);
+    }
+
+    void print() {
+        System.out.printf("%n%-16s %10s %9s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "failures", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((endpoint, stats) -> printRow(endpoint, stats));
+        if (persistenceLag != null) {
+            printRow("persist lag", persistenceLag);
+            System.out.printf("persisted %d of %d tracked /words/reverse requests%n", persistedDocuments, trackedRequests);
+        }
+    }
+
+    private static void printRow(String name, Stats stats) {
+        System.out.printf("%-16s %10d %9d %10.1f %10.3f %10.3f %10.3f %10.3f%n", name, stats.count(), stats.failures(),
+                stats.throughputPerSec(), stats.p50Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs());
+    }
+
+    Path write(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve("report-" + LocalDateTime.now().format(FILE_TS) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
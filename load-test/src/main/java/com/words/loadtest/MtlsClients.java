@@ -0,0 +1,87 @@
+package com.words.loadtest;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Executor;
+
+/**
+ * HTTP clients presenting the client certificate from the Postman Certs folder. The services' server
+ * certificate is self-signed, so it is trusted without verification; this is for local load tests only.
+ */
+final class MtlsClients {
+
+    private static final String CERT_FILE = "client-cert.pem";
+    private static final String KEY_FILE = "client-key.pem";
+    private static final char[] NO_PASSWORD = new char[0];
+
+    private MtlsClients() {
+    }
+
+    static HttpClient create(Path certDir, Executor executor) throws Exception {
+        System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+        return HttpClient.newBuilder()
+                .sslContext(sslContext(certDir))
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    private static SSLContext sslContext(Path certDir) throws Exception {
+        Certificate certificate;
+        try (InputStream in = Files.newInputStream(certDir.resolve(CERT_FILE))) {
+            certificate = CertificateFactory.getInstance("X.509").generateCertificate(in);
+        }
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("client", privateKey(certDir.resolve(KEY_FILE)), NO_PASSWORD, new Certificate[]{certificate});
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, NO_PASSWORD);
+
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keyManagers.getKeyManagers(), new TrustManager[]{new TrustAllManager()}, null);
+        return context;
+    }
+
+    private static PrivateKey privateKey(Path pem) throws Exception {
+        String base64 = Files.readString(pem)
+                .replaceAll("-----(BEGIN|END) PRIVATE KEY-----", "")
+                .replaceAll("\\s", "");
+        PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64));
+        try {
+            return KeyFactory.getInstance("RSA").generatePrivate(spec);
+        } catch (Exception notRsa) {
+            return KeyFactory.getInstance("EC").generatePrivate(spec);
+        }
+    }
+
+    private static class TrustAllManager implements X509TrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.words.loadtest;
+
+import de.bwaldvogel.mongo.MongoVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import de.bwaldvogel.mongo.bson.Document;
+import io.netty.channel.Channel;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory Mongo backend that timestamps every track_logs write as it lands. Lag is measured from the
+ * TrackLog response timestamp ({@code pt}), taken by word-service when the HTTP response was ready, to the
+ * moment persist-service's write reaches Mongo, i.e. the full Kafka publish/consume/persist path.
+ */
+class PersistenceObserver extends MemoryBackend {
+
+    private static final String TRACK_LOG_COLLECTION = "track_logs";
+    private static final String RESPONSE_TS_FIELD = "pt";
+
+    private final Recorder lagRecorder = new Recorder(TimeUnit.MINUTES.toMillis(10), 3);
+    private final LongAdder persisted = new LongAdder();
+    private volatile long measureFromMs = Long.MAX_VALUE;
+
+    PersistenceObserver() {
+        // The services' driver requires at least MongoDB 4.2 (wire version 8)
+        version(new MongoVersion() {
+            @Override
+            public List<Integer> getVersionArray() {
+                return List.of(4, 2, 0);
+            }
+
+            @Override
+            public int getWireVersion() {
+                return 8;
+            }
+        });
+    }
+
+    @Override
+    public Document handleCommand(Channel channel, String databaseName, String command, Document query) {
+        Document result = super.handleCommand(channel, databaseName, command, query);
+        if (TRACK_LOG_COLLECTION.equals(query.get(command))) {
+            long nowMs = System.currentTimeMillis();
+            if ("insert".equals(command)) {
+                observe(query.get("documents"), false, nowMs);
+            } else if ("update".equals(command)) {
+                observe(query.get("updates"), true, nowMs);
+            }
+        }
+        return result;
+    }
+
+    private void observe(Object writes, boolean update, long nowMs) {
+        if (!(writes instanceof List<?> list)) {
+            return;
+        }
+        for (Object write : list) {
+            Object doc = update && write instanceof Document op ? op.get("u") : write;
+            if (doc instanceof Document document) {
+                long responseMs = epochMs(document.get(RESPONSE_TS_FIELD));
+                if (responseMs >= measureFromMs) {
+                    lagRecorder.recordValue(Math.max(0, nowMs - responseMs));
+                    persisted.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Only documents answered from this point on are counted, so warm-up traffic does not skew the result.
+     */
+    void startMeasuring(long fromMs) {
+        lagRecorder.reset();
+        persisted.reset();
+        measureFromMs = fromMs;
+    }
+
+    long persistedCount() {
+        return persisted.sum();
+    }
+
+    Histogram lagHistogramMs() {
+        return lagRecorder.getIntervalHistogram();
+    }
+
+    private static long epochMs(Object value) {
+        if (value instanceof Instant instant) {
+            return instant.toEpochMilli();
+        }
+        if (value instanceof Date date) {
+            return date.getTime();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.words.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A service boot jar started as a child JVM, with its output sent to a log file under the report directory.
+ */
+@Slf4j
+class ServiceProcess implements AutoCloseable {
+
+    private final String name;
+    private final Process process;
+    private final Path logFile;
+
+    private ServiceProcess(String name, Process process, Path logFile) {
+        this.name = name;
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    static ServiceProcess start(String name, Path jar, String jvmArgs, List<String> properties, Path logDir) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(name + " jar not found at " + jar.toAbsolutePath() + ", run `gradle bootJar` in the service first");
+        }
+        Files.createDirectories(logDir);
+        Path logFile = logDir.resolve(name + ".log");
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.stream(jvmArgs.split("\\s+")).filter(arg -> !arg.isBlank()).toList());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.addAll(properties);
+        log.info("Starting {} (log: {})", name, logFile.toAbsolutePath());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new ServiceProcess(name, process, logFile);
+    }
+
+    void awaitHealthy(HttpClient client, String baseUrl, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ", see " + logFile.toAbsolutePath());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} is healthy at {}", name, baseUrl);
+                    return;
+                }
+            } catch (IOException notUpYet) {
+                // keep polling until the deadline
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + timeout + ", see " + logFile.toAbsolutePath());
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(15, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.words.persistservice;
 
+import com.words.persistservice.export.TrackLogExporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication(scanBasePackages = "com.words")
@@ -10,7 +12,11 @@ import org.springframework.scheduling.annotation.EnableAsync;
 public class PersistServiceApplication extends SpringBootServletInitializer {
 
 	public static void main(String[] args) {
-		SpringApplication.run(PersistServiceApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(PersistServiceApplication.class, args);
+		TrackLogExporter exporter = context.getBeanProvider(TrackLogExporter.class).getIfAvailable();
+		if (exporter != null && exporter.isExitWhenDone()) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
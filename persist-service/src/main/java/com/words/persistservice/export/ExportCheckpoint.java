@@ -0,0 +1,92 @@
+package com.words.persistservice.export;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Properties;
+
+/**
+ * Progress of one range: the sort key of the last exported document, so a resumed scan continues right after it.
+ * Stored after every page, once the page is durably written or acknowledged.
+ */
+final class ExportCheckpoint {
+
+    private final Path file;
+    private Date lastRequestTs;
+    private String lastId;
+    private long exported;
+    private int nextSegment;
+    private boolean done;
+
+    private ExportCheckpoint(Path file) {
+        this.file = file;
+    }
+
+    static ExportCheckpoint load(Path file) throws IOException {
+        ExportCheckpoint checkpoint = new ExportCheckpoint(file);
+        if (!Files.exists(file)) {
+            return checkpoint;
+        }
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        String lastRequestTs = props.getProperty("last-request-ts");
+        checkpoint.lastRequestTs = lastRequestTs == null ? null : new Date(Long.parseLong(lastRequestTs));
+        checkpoint.lastId = props.getProperty("last-id");
+        checkpoint.exported = Long.parseLong(props.getProperty("exported", "0"));
+        checkpoint.nextSegment = Integer.parseInt(props.getProperty("next-segment", "0"));
+        checkpoint.done = Boolean.parseBoolean(props.getProperty("done"));
+        return checkpoint;
+    }
+
+    void advance(Date lastRequestTs, String lastId, int count) throws IOException {
+        this.lastRequestTs = lastRequestTs;
+        this.lastId = lastId;
+        this.exported += count;
+        this.nextSegment++;
+        store();
+    }
+
+    void finish() throws IOException {
+        this.done = true;
+        store();
+    }
+
+    Date getLastRequestTs() {
+        return lastRequestTs;
+    }
+
+    String getLastId() {
+        return lastId;
+    }
+
+    long getExported() {
+        return exported;
+    }
+
+    int getNextSegment() {
+        return nextSegment;
+    }
+
+    boolean isDone() {
+        return done;
+    }
+
+    private void store() throws IOException {
+        Properties props = new Properties();
+        if (lastRequestTs != null) {
+            props.setProperty("last-request-ts", String.valueOf(lastRequestTs.getTime()));
+        }
+        if (lastId != null) {
+            props.setProperty("last-id", lastId);
+        }
+        props.setProperty("exported", String.valueOf(exported));
+        props.setProperty("next-segment", String.valueOf(nextSegment));
+        props.setProperty("done", String.valueOf(done));
+        ExportPlan.storeAtomically(props, file);
+    }
+}
@@ -0,0 +1,9 @@
+package com.words.persistservice.export;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportConfiguration {
+}
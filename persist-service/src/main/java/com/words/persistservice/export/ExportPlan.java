@@ -0,0 +1,175 @@
+package com.words.persistservice.export;
+
+import com.words.persistservice.export.ExportProperties.SplitBy;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * How a run splits track_logs into ranges. Stored next to the checkpoints so that a resumed run scans exactly
+ * the ranges it started with, even if the collection has grown since. Ranges are half-open; a null bound is open.
+ */
+final class ExportPlan {
+
+    /**
+     * ID ranges are slices of this many leading hex values of the UUID key space.
+     */
+    private static final int ID_KEY_SPACE = 0x10000;
+
+    record Range(int index, Object lower, Object upper) {
+    }
+
+    private final SplitBy splitBy;
+    private final Instant from;
+    private final Instant to;
+    private final List<Range> ranges;
+
+    private ExportPlan(SplitBy splitBy, Instant from, Instant to, List<Range> ranges) {
+        this.splitBy = splitBy;
+        this.from = from;
+        this.to = to;
+        this.ranges = ranges;
+    }
+
+    static ExportPlan byId(ExportProperties properties) {
+        int partitions = Math.max(1, Math.min(properties.getPartitions(), ID_KEY_SPACE));
+        List<Range> ranges = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            ranges.add(new Range(i,
+                    i == 0 ? null : idBoundary(i, partitions),
+                    i == partitions - 1 ? null : idBoundary(i + 1, partitions)));
+        }
+        return new ExportPlan(SplitBy.ID, properties.getFrom(), properties.getTo(), ranges);
+    }
+
+    /**
+     * @param oldest oldest requestTs inside the window, or null when it holds no documents
+     * @param newest newest requestTs inside the window
+     */
+    static ExportPlan byRequestTs(ExportProperties properties, Instant oldest, Instant newest) {
+        Instant from = properties.getFrom();
+        Instant to = properties.getTo();
+        if (oldest == null) {
+            return new ExportPlan(SplitBy.REQUEST_TS, from, to, List.of(new Range(0, toDate(from), toDate(to))));
+        }
+        long lo = oldest.toEpochMilli();
+        long span = newest.toEpochMilli() + 1 - lo;
+        int partitions = (int) Math.max(1, Math.min(properties.getPartitions(), span));
+        List<Range> ranges = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            ranges.add(new Range(i,
+                    i == 0 ? toDate(from) : new Date(lo + span * i / partitions),
+                    i == partitions - 1 ? toDate(to) : new Date(lo + span * (i + 1) / partitions)));
+        }
+        return new ExportPlan(SplitBy.REQUEST_TS, from, to, ranges);
+    }
+
+    SplitBy splitBy() {
+        return splitBy;
+    }
+
+    Instant from() {
+        return from;
+    }
+
+    Instant to() {
+        return to;
+    }
+
+    List<Range> ranges() {
+        return ranges;
+    }
+
+    /**
+     * Whether a stored plan was made for the same split and window as the current settings.
+     */
+    boolean matches(ExportProperties properties) {
+        return splitBy == properties.getSplitBy()
+                && Objects.equals(from, properties.getFrom())
+                && Objects.equals(to, properties.getTo());
+    }
+
+    static ExportPlan load(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        SplitBy splitBy = SplitBy.valueOf(props.getProperty("split-by"));
+        int count = Integer.parseInt(props.getProperty("ranges"));
+        List<Range> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ranges.add(new Range(i,
+                    decode(splitBy, props.getProperty("range." + i + ".lower")),
+                    decode(splitBy, props.getProperty("range." + i + ".upper"))));
+        }
+        return new ExportPlan(splitBy, instant(props.getProperty("from")), instant(props.getProperty("to")), ranges);
+    }
+
+    void store(Path file) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("split-by", splitBy.name());
+        props.setProperty("ranges", String.valueOf(ranges.size()));
+        if (from != null) {
+            props.setProperty("from", from.toString());
+        }
+        if (to != null) {
+            props.setProperty("to", to.toString());
+        }
+        for (Range range : ranges) {
+            if (range.lower() != null) {
+                props.setProperty("range." + range.index() + ".lower", encode(range.lower()));
+            }
+            if (range.upper() != null) {
+                props.setProperty("range." + range.index() + ".upper", encode(range.upper()));
+            }
+        }
+        storeAtomically(props, file);
+    }
+
+    static void storeAtomically(Properties props, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                props.store(writer, null);
+            }
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String idBoundary(int slice, int partitions) {
+        return String.format("%04x", (int) ((long) slice * ID_KEY_SPACE / partitions));
+    }
+
+    private static String encode(Object bound) {
+        return bound instanceof Date date ? String.valueOf(date.getTime()) : String.valueOf(bound);
+    }
+
+    private static Object decode(SplitBy splitBy, String value) {
+        if (value == null) {
+            return null;
+        }
+        return splitBy == SplitBy.REQUEST_TS ? new Date(Long.parseLong(value)) : value;
+    }
+
+    private static Date toDate(Instant instant) {
+        return instant == null ? null : Date.from(instant);
+    }
+
+    private static Instant instant(String value) {
+        return value == null ? null : Instant.parse(value);
+    }
+}
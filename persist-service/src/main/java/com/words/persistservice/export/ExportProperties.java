@@ -0,0 +1,55 @@
+package com.words.persistservice.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.export")
+public class ExportProperties {
+    private boolean enabled;
+    /**
+     * Names the output and checkpoint directory; re-running with the same id resumes the run.
+     */
+    private String runId = "export";
+    private Mode mode = Mode.FILE;
+    private SplitBy splitBy = SplitBy.ID;
+    /**
+     * Optional requestTs window, inclusive lower and exclusive upper bound.
+     */
+    private Instant from;
+    private Instant to;
+    private int partitions = 16;
+    private int parallelism = 4;
+    private int cursorBatchSize = 1000;
+    /**
+     * Documents per keyset page; each page becomes one segment file or one acknowledged publish, then a checkpoint.
+     */
+    private int pageSize = 10000;
+    private String outputDir = "data/export";
+    /**
+     * Topic for {@link Mode#KAFKA}; defaults to the TrackLog topic.
+     */
+    private String topic;
+    private Duration progressInterval = Duration.ofSeconds(10);
+    private boolean exitWhenDone;
+
+    public enum Mode {
+        FILE, KAFKA
+    }
+
+    public enum SplitBy {
+        /**
+         * Even slices of the UUID key space; any requestTs window is applied as a filter.
+         */
+        ID,
+        /**
+         * Even slices of the compact requestTs range; legacy documents must be migrated first.
+         */
+        REQUEST_TS
+    }
+}
@@ -0,0 +1,307 @@
+package com.words.persistservice.export;
+
+import com.words.basesdk.model.TrackLog;
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.service.TrackLogPayloadStore;
+import com.words.persistservice.export.ExportPlan.Range;
+import com.words.persistservice.export.ExportProperties.Mode;
+import com.words.persistservice.export.ExportProperties.SplitBy;
+import com.words.persistservice.retention.ArchiveSegmentWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.words.basesdk.model.TrackLogDocument.*;
+import static com.words.basesdk.util.BaseSDKConstants.ARCHIVE_SEGMENT_PREFIX;
+import static com.words.basesdk.util.BaseSDKConstants.ARCHIVE_SEGMENT_SUFFIX;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_REPLAY_HEADER;
+
+/**
+ * Bulk export / backfill of track_logs. The collection is split into {@code _id} or {@code requestTs} ranges that
+ * are scanned in parallel by keyset pages, so no cursor outlives a page. Each page is written as a gzip NDJSON segment
+ * or re-published to the TrackLog topic, then checkpointed; re-running with the same run id resumes after the last
+ * checkpointed page. Payloads are inlined in dedup mode. Throughput is logged while the export runs and counted
+ * by {@code track.export.documents}. The export runs once on startup, before the application reports ready; with
+ * {@code exit-when-done} the application exits afterwards with the code reported here.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "track.export.enabled", havingValue = "true")
+public class TrackLogExporter implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String DOCUMENTS_METRIC = "track.export.documents";
+    private static final String PLAN_FILE = "plan.properties";
+    private static final String CHECKPOINT_DIR = "checkpoints";
+
+    private final MongoTemplate mongoTemplate;
+    private final ArchiveSegmentWriter segmentWriter;
+    private final TrackLogPayloadStore payloadStore;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ExportProperties properties;
+    private final Counter exportedCounter;
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicInteger rangesDone = new AtomicInteger();
+    private volatile int exitCode = 1;
+
+    @Value("${track.kafka.topic:words.track.aspect}")
+    String trackLogTopicName;
+
+    public TrackLogExporter(MongoTemplate mongoTemplate, ArchiveSegmentWriter segmentWriter,
+                            TrackLogPayloadStore payloadStore, KafkaTemplate<String, Object> kafkaTemplate,
+                            ExportProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.segmentWriter = segmentWriter;
+        this.payloadStore = payloadStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.exportedCounter = Counter.builder(DOCUMENTS_METRIC)
+                .description("TrackLogs exported or re-published by the bulk exporter")
+                .tag("mode", properties.getMode().name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path runDir = Path.of(properties.getOutputDir(), properties.getRunId());
+        try {
+            ExportPlan plan = plan(runDir);
+            if (plan != null && run(runDir, plan)) {
+                exitCode = 0;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("TrackLog export {} interrupted after {} documents", properties.getRunId(), exported.get());
+        } catch (Exception e) {
+            log.error("TrackLog export {} failed after {} documents", properties.getRunId(), exported.get(), e);
+        }
+    }
+
+    /**
+     * 0 once every range is exported, 1 otherwise.
+     */
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    public boolean isExitWhenDone() {
+        return properties.isExitWhenDone();
+    }
+
+    /**
+     * Reuses the plan of an earlier run with the same id, so resumed ranges line up with their checkpoints.
+     */
+    private ExportPlan plan(Path runDir) throws Exception {
+        Path planFile = runDir.resolve(PLAN_FILE);
+        if (Files.exists(planFile)) {
+            ExportPlan plan = ExportPlan.load(planFile);
+            if (!plan.matches(properties)) {
+                log.error("Export run {} was planned with split-by {} and window {} to {}; use a new run-id for other settings",
+                        properties.getRunId(), plan.splitBy(), plan.from(), plan.to());
+                return null;
+            }
+            log.info("Resuming export run {} over {} ranges", properties.getRunId(), plan.ranges().size());
+            return plan;
+        }
+        ExportPlan plan = properties.getSplitBy() == SplitBy.ID
+                ? ExportPlan.byId(properties)
+                : ExportPlan.byRequestTs(properties, requestTsBound(Sort.Direction.ASC), requestTsBound(Sort.Direction.DESC));
+        plan.store(planFile);
+        log.info("Starting export run {} over {} {} ranges into {}", properties.getRunId(), plan.ranges().size(),
+                plan.splitBy(), properties.getMode() == Mode.FILE ? runDir : properties.getTopic() != null
+                        ? properties.getTopic() : trackLogTopicName);
+        return plan;
+    }
+
+    private boolean run(Path runDir, ExportPlan plan) throws InterruptedException {
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "track-export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<?>> ranges = new ArrayList<>(plan.ranges().size());
+        for (Range range : plan.ranges()) {
+            ranges.add(pool.submit(() -> {
+                exportRange(runDir, plan, range);
+                return null;
+            }));
+        }
+        pool.shutdown();
+        long started = System.nanoTime();
+        long lastReport = started;
+        long lastExported = 0;
+        try {
+            while (!pool.awaitTermination(properties.getProgressInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+                long now = System.nanoTime();
+                long total = exported.get();
+                log.info("Export {}: {} documents, {} docs/s now, {} docs/s overall, {}/{} ranges done",
+                        properties.getRunId(), total, rate(total - lastExported, now - lastReport),
+                        rate(total, now - started), rangesDone.get(), ranges.size());
+                lastReport = now;
+                lastExported = total;
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            throw e;
+        }
+        int failed = 0;
+        for (Future<?> range : ranges) {
+            try {
+                range.get();
+            } catch (ExecutionException e) {
+                failed++;
+                log.error("Export range failed; re-run {} to resume it", properties.getRunId(), e.getCause());
+            }
+        }
+        long total = exported.get();
+        log.info("Export {} finished: {} documents in {} ms ({} docs/s), {}/{} ranges done", properties.getRunId(),
+                total, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                rate(total, System.nanoTime() - started), ranges.size() - failed, ranges.size());
+        return failed == 0;
+    }
+
+    private void exportRange(Path runDir, ExportPlan plan, Range range) throws Exception {
+        ExportCheckpoint checkpoint = ExportCheckpoint.load(
+                runDir.resolve(CHECKPOINT_DIR).resolve(String.format("range-%03d.properties", range.index())));
+        List<Document> page;
+        while (!checkpoint.isDone()) {
+            page = mongoTemplate.find(pageQuery(plan, range, checkpoint), Document.class, TRACK_LOG_COLLECTION);
+            if (!page.isEmpty()) {
+                Document last = page.get(page.size() - 1);
+                Date lastRequestTs = plan.splitBy() == SplitBy.REQUEST_TS ? last.getDate(REQUEST_TS_FIELD) : null;
+                String lastId = String.valueOf(last.get(ID_FIELD));
+                payloadStore.inline(page);
+                if (properties.getMode() == Mode.FILE) {
+                    segmentWriter.write(runDir.resolve(String.format("%sr%03d-%06d%s", ARCHIVE_SEGMENT_PREFIX,
+                            range.index(), checkpoint.getNextSegment(), ARCHIVE_SEGMENT_SUFFIX)), page);
+                } else {
+                    publish(page);
+                }
+                checkpoint.advance(lastRequestTs, lastId, page.size());
+                exported.addAndGet(page.size());
+                exportedCounter.increment(page.size());
+            }
+            if (page.size() < properties.getPageSize()) {
+                checkpoint.finish();
+            }
+        }
+        rangesDone.incrementAndGet();
+        log.debug("Export range {} done with {} documents", range.index(), checkpoint.getExported());
+    }
+
+    private Query pageQuery(ExportPlan plan, Range range, ExportCheckpoint checkpoint) {
+        List<Criteria> criteria = new ArrayList<>();
+        Query query = new Query();
+        if (plan.splitBy() == SplitBy.ID) {
+            if (checkpoint.getLastId() != null) {
+                criteria.add(Criteria.where(ID_FIELD).gt(checkpoint.getLastId()));
+            } else if (range.lower() != null) {
+                criteria.add(Criteria.where(ID_FIELD).gte(range.lower()));
+            }
+            if (range.upper() != null) {
+                criteria.add(Criteria.where(ID_FIELD).lt(range.upper()));
+            }
+            if (plan.from() != null || plan.to() != null) {
+                criteria.add(new Criteria().orOperator(
+                        window(REQUEST_TS_FIELD, plan.from(), plan.to()),
+                        window(LEGACY_REQUEST_TS_FIELD, plan.from(), plan.to())));
+            }
+            query.with(Sort.by(Sort.Direction.ASC, ID_FIELD));
+        } else {
+            Criteria bounds = Criteria.where(REQUEST_TS_FIELD).ne(null);
+            if (range.lower() != null) {
+                bounds.gte(range.lower());
+            }
+            if (range.upper() != null) {
+                bounds.lt(range.upper());
+            }
+            criteria.add(bounds);
+            if (checkpoint.getLastRequestTs() != null) {
+                criteria.add(new Criteria().orOperator(
+                        Criteria.where(REQUEST_TS_FIELD).gt(checkpoint.getLastRequestTs()),
+                        Criteria.where(REQUEST_TS_FIELD).is(checkpoint.getLastRequestTs())
+                                .and(ID_FIELD).gt(checkpoint.getLastId())));
+            }
+            query.with(Sort.by(Sort.Direction.ASC, REQUEST_TS_FIELD, ID_FIELD));
+        }
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+        return query.limit(properties.getPageSize()).cursorBatchSize(properties.getCursorBatchSize());
+    }
+
+    private static Criteria window(String field, Instant from, Instant to) {
+        Criteria criteria = Criteria.where(field).ne(null);
+        if (from != null) {
+            criteria.gte(Date.from(from));
+        }
+        if (to != null) {
+            criteria.lt(Date.from(to));
+        }
+        return criteria;
+    }
+
+    /**
+     * Acknowledged before the page is checkpointed; a page cut short by a crash is published again on resume.
+     * Records carry the replay header, so persist-service only saves them by id and leaves rollups, live windows
+     * and pipeline metrics alone, however often a page is published.
+     */
+    private void publish(List<Document> page) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        String topic = properties.getTopic() != null ? properties.getTopic() : trackLogTopicName;
+        List<CompletableFuture<?>> sends = new ArrayList<>(page.size());
+        for (Document doc : page) {
+            TrackLog trackLog = converter.read(TrackLogDocument.class, doc).toTrackLog();
+            trackLog.setPublishTs(Instant.now());
+            ProducerRecord<String, Object> record = new ProducerRecord<>(topic, trackLog);
+            record.headers().add(TRACK_LOG_REPLAY_HEADER, "true".getBytes(StandardCharsets.UTF_8));
+            sends.add(kafkaTemplate.send(record));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private Instant requestTsBound(Sort.Direction direction) {
+        Query query = new Query(window(REQUEST_TS_FIELD, properties.getFrom(), properties.getTo()))
+                .with(Sort.by(direction, REQUEST_TS_FIELD))
+                .limit(1);
+        query.fields().include(REQUEST_TS_FIELD);
+        Document doc = mongoTemplate.findOne(query, Document.class, TRACK_LOG_COLLECTION);
+        return doc == null ? null : doc.getDate(REQUEST_TS_FIELD).toInstant();
+    }
+
+    private static long rate(long count, long nanos) {
+        return nanos <= 0 ? 0 : count * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+}
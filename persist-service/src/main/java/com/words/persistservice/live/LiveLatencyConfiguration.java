@@ -0,0 +1,9 @@
+package com.words.persistservice.live;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LiveLatencyProperties.class)
+public class LiveLatencyConfiguration {
+}
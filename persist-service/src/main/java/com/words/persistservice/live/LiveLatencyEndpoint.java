@@ -0,0 +1,30 @@
+package com.words.persistservice.live;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/latency}: live p50/p90/p99, error rate and throughput per service over each configured window.
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LiveLatencyEndpoint {
+
+    private final LiveLatencyTracker tracker;
+
+    @ReadOperation
+    public Map<String, Map<String, WindowStats>> latency() {
+        return tracker.snapshot();
+    }
+
+    @ReadOperation
+    public Map<String, WindowStats> service(@Selector String serviceName) {
+        return tracker.snapshot(serviceName);
+    }
+}
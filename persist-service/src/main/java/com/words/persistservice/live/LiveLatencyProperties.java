@@ -0,0 +1,22 @@
+package com.words.persistservice.live;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.live-latency")
+public class LiveLatencyProperties {
+    private boolean enabled = true;
+    private Duration slot = Duration.ofSeconds(10);
+    private List<Duration> windows = List.of(Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(15));
+    private int maxServices = 32;
+    /**
+     * Histogram stripes per slot; 0 picks the processor count rounded up to a power of two.
+     */
+    private int stripes;
+}
@@ -0,0 +1,132 @@
+package com.words.persistservice.live;
+
+import com.words.basesdk.model.TrackLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Sliding-window latency and error rate per service, fed by every consumed TrackLog and served from memory,
+ * through the {@code latency} actuator endpoint and the {@code track.live.*} gauges, without querying Mongo.
+ * Services beyond {@code max-services} share one series so that memory stays bounded whatever the traffic.
+ */
+@Slf4j
+@Component
+public class LiveLatencyTracker {
+
+    public static final String LATENCY_METRIC = "track.live.latency";
+    public static final String ERROR_RATE_METRIC = "track.live.error.rate";
+    public static final String REQUESTS_METRIC = "track.live.requests";
+
+    private static final int MAX_STRIPES = 64;
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String OTHER = "OTHER";
+    private static final String ERROR = "ERROR";
+
+    private final LiveLatencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SlidingLatencyWindow> series = new ConcurrentHashMap<>();
+    private final long slotMs;
+    private final int slotCount;
+    private final int stripes;
+
+    public LiveLatencyTracker(LiveLatencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slotMs = Math.max(1, properties.getSlot().toMillis());
+        long longestMs = properties.getWindows().stream().mapToLong(Duration::toMillis).max().orElse(slotMs);
+        this.slotCount = (int) (longestMs / slotMs) + 2;
+        int requested = Math.min(MAX_STRIPES,
+                properties.getStripes() > 0 ? properties.getStripes() : Runtime.getRuntime().availableProcessors());
+        this.stripes = requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+    }
+
+    public void record(TrackLog trackLog) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long nowMs = System.currentTimeMillis();
+        long timestampMs = trackLog.getResponseTs() != null ? trackLog.getResponseTs().toEpochMilli() : nowMs;
+        seriesFor(trackLog.getServiceName())
+                .record(nowMs, timestampMs, trackLog.getExecutionTimeMs(), ERROR.equals(trackLog.getSeverity()));
+    }
+
+    /**
+     * @return per service, the stats of every configured window keyed by its label, e.g. {@code 5m}
+     */
+    public Map<String, Map<String, WindowStats>> snapshot() {
+        Map<String, Map<String, WindowStats>> result = new TreeMap<>();
+        series.keySet().forEach(service -> result.put(service, snapshot(service)));
+        return result;
+    }
+
+    public Map<String, WindowStats> snapshot(String service) {
+        SlidingLatencyWindow window = series.get(service);
+        if (window == null) {
+            return null;
+        }
+        long nowMs = System.currentTimeMillis();
+        Map<String, WindowStats> result = new LinkedHashMap<>();
+        for (Duration duration : properties.getWindows()) {
+            result.put(label(duration), window.snapshot(nowMs, duration.toMillis()));
+        }
+        return result;
+    }
+
+    private SlidingLatencyWindow seriesFor(String serviceName) {
+        String service = serviceName == null ? UNKNOWN : serviceName;
+        SlidingLatencyWindow window = series.get(service);
+        if (window != null) {
+            return window;
+        }
+        if (series.size() >= properties.getMaxServices()) {
+            service = OTHER;
+        }
+        return series.computeIfAbsent(service, this::newSeries);
+    }
+
+    private SlidingLatencyWindow newSeries(String service) {
+        SlidingLatencyWindow window = new SlidingLatencyWindow(slotMs, slotCount, stripes);
+        for (Duration duration : properties.getWindows()) {
+            String label = label(duration);
+            long windowMs = duration.toMillis();
+            gauge(LATENCY_METRIC, service, label, "0.5", window, windowMs, WindowStats::p50Ms);
+            gauge(LATENCY_METRIC, service, label, "0.9", window, windowMs, WindowStats::p90Ms);
+            gauge(LATENCY_METRIC, service, label, "0.99", window, windowMs, WindowStats::p99Ms);
+            gauge(ERROR_RATE_METRIC, service, label, null, window, windowMs, WindowStats::errorRate);
+            gauge(REQUESTS_METRIC, service, label, null, window, windowMs, WindowStats::count);
+        }
+        log.debug("Tracking live latency of {} over {}", service, properties.getWindows());
+        return window;
+    }
+
+    private void gauge(String name, String service, String windowLabel, String quantile,
+                       SlidingLatencyWindow window, long windowMs, ToDoubleFunction<WindowStats> value) {
+        Gauge.Builder<SlidingLatencyWindow> builder = Gauge
+                .builder(name, window, w -> value.applyAsDouble(w.snapshot(System.currentTimeMillis(), windowMs)))
+                .tag("service", service)
+                .tag("window", windowLabel);
+        if (quantile != null) {
+            builder.tag("quantile", quantile).baseUnit("milliseconds");
+        }
+        builder.register(meterRegistry);
+    }
+
+    static String label(Duration duration) {
+        if (duration.toSeconds() % 3600 == 0) {
+            return duration.toHours() + "h";
+        }
+        if (duration.toSeconds() % 60 == 0) {
+            return duration.toMinutes() + "m";
+        }
+        return duration.toSeconds() + "s";
+    }
+}
@@ -0,0 +1,116 @@
+package com.words.persistservice.live;
+
+import com.words.basesdk.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ring of fixed-length time slots, each holding one latency histogram per stripe, so that recent latency
+ * can be read over any window up to the ring length. Writers never lock: they pick a stripe by thread and
+ * the first writer reaching an expired slot recycles it. Samples racing a recycle may be lost, never counted
+ * twice. Memory is fixed by the slot count, the stripe count and the {@link LatencyHistogram} layout.
+ */
+class SlidingLatencyWindow {
+
+    private static final int ERRORS = LatencyHistogram.BUCKET_COUNT;
+    private static final int TOTAL_MS = ERRORS + 1;
+    private static final int MAX_MS = TOTAL_MS + 1;
+    private static final int STRIPE_WIDTH = MAX_MS + 1;
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final long slotMs;
+    private final int stripeMask;
+    private final Slot[] slots;
+
+    SlidingLatencyWindow(long slotMs, int slotCount, int stripes) {
+        this.slotMs = slotMs;
+        this.stripeMask = stripes - 1;
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot(stripes * STRIPE_WIDTH);
+        }
+    }
+
+    /**
+     * @param timestampMs when the request completed; samples older than the ring are dropped
+     */
+    void record(long nowMs, long timestampMs, long valueMs, boolean error) {
+        long epoch = Math.min(timestampMs, nowMs) / slotMs;
+        if (epoch <= nowMs / slotMs - slots.length) {
+            return;
+        }
+        Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        long slotEpoch = slot.epoch.get();
+        if (slotEpoch != epoch) {
+            if (slotEpoch > epoch || !slot.epoch.compareAndSet(slotEpoch, epoch)) {
+                // Late sample for a recycled slot, or another writer is recycling it
+                if (slot.epoch.get() != epoch) {
+                    return;
+                }
+            } else if (slotEpoch != UNUSED) {
+                slot.clear();
+            }
+        }
+        int base = ((int) Thread.currentThread().getId() & stripeMask) * STRIPE_WIDTH;
+        long value = Math.max(0, valueMs);
+        slot.cells.incrementAndGet(base + LatencyHistogram.bucketIndex(value));
+        slot.cells.addAndGet(base + TOTAL_MS, value);
+        slot.cells.accumulateAndGet(base + MAX_MS, value, Math::max);
+        if (error) {
+            slot.cells.incrementAndGet(base + ERRORS);
+        }
+    }
+
+    /**
+     * Merges every stripe of the slots covering the last {@code windowMs}, including the current partial slot.
+     */
+    WindowStats snapshot(long nowMs, long windowMs) {
+        long newest = nowMs / slotMs;
+        long oldest = newest - Math.min(slots.length, Math.max(1, windowMs / slotMs + 1)) + 1;
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        long errors = 0;
+        long totalMs = 0;
+        long maxMs = 0;
+        for (long epoch = oldest; epoch <= newest; epoch++) {
+            Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+            if (slot.epoch.get() != epoch) {
+                continue;
+            }
+            for (int base = 0; base < slot.cells.length(); base += STRIPE_WIDTH) {
+                for (int bucket = 0; bucket < counts.length; bucket++) {
+                    counts[bucket] += slot.cells.get(base + bucket);
+                }
+                errors += slot.cells.get(base + ERRORS);
+                totalMs += slot.cells.get(base + TOTAL_MS);
+                maxMs = Math.max(maxMs, slot.cells.get(base + MAX_MS));
+            }
+        }
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        return new WindowStats(count, errors,
+                count == 0 ? 0.0 : (double) errors / count,
+                count == 0 ? 0.0 : (double) totalMs / count,
+                LatencyHistogram.percentile(counts, 0.5, maxMs),
+                LatencyHistogram.percentile(counts, 0.9, maxMs),
+                LatencyHistogram.percentile(counts, 0.99, maxMs),
+                maxMs);
+    }
+
+    private static final class Slot {
+        private final AtomicLong epoch = new AtomicLong(UNUSED);
+        private final AtomicLongArray cells;
+
+        private Slot(int length) {
+            this.cells = new AtomicLongArray(length);
+        }
+
+        private void clear() {
+            for (int i = 0; i < cells.length(); i++) {
+                cells.set(i, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.words.persistservice.live;
+
+/**
+ * Latency and error rate of one service over one sliding window. Percentiles are bucket upper bounds.
+ */
+public record WindowStats(long count, long errors, double errorRate, double meanMs,
+                          long p50Ms, long p90Ms, long p99Ms, long maxMs) {
+}
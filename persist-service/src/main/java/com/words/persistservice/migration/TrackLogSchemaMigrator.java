@@ -0,0 +1,214 @@
+package com.words.persistservice.migration;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.words.basesdk.jfr.BulkWriteEvent;
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.service.TrackLogPayloadStore;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.words.basesdk.metrics.StageTimers.OUTCOME_EXCEPTION;
+import static com.words.basesdk.metrics.StageTimers.OUTCOME_SUCCESS;
+import static com.words.basesdk.model.TrackLogDocument.*;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
+
+/**
+ * Online rewrite of track_logs documents still stored with full field names, untyped bodies and {@code _class}
+ * hints into the compact layout. Runs in small batches in the background while the service keeps persisting;
+ * reads accept both layouts in the meantime. In dedup mode a second pass moves inline bodies into shared payloads.
+ * Safe to re-run: migrated documents no longer match.
+ * <p>
+ * Word search falls back to $text while the word index is not serving, so the text index has to cover the compact
+ * sentence path and, until migration completes, the legacy one. A missing text index is created; an existing one
+ * that misses a path is only replaced with {@code rebuild-text-index}, since a collection holds a single text
+ * index and $text queries fail until the new one is built. Otherwise a warning is logged.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "track.storage.migration.enabled", havingValue = "true")
+public class TrackLogSchemaMigrator {
+
+    private static final String TEXT_INDEX_NAME = "sentence_text";
+
+    private final MongoTemplate mongoTemplate;
+    private final TrackLogPayloadStore payloadStore;
+
+    @Value("${track.storage.migration.batch-size:500}")
+    int batchSize;
+
+    @Value("${track.storage.migration.pause-ms:200}")
+    long pauseMs;
+
+    @Value("${track.storage.migration.rebuild-text-index:false}")
+    boolean rebuildTextIndex;
+
+    public TrackLogSchemaMigrator(MongoTemplate mongoTemplate, TrackLogPayloadStore payloadStore) {
+        this.mongoTemplate = mongoTemplate;
+        this.payloadStore = payloadStore;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        long started = System.currentTimeMillis();
+        long migrated = 0;
+        try {
+            checkTextIndex();
+        } catch (Exception e) {
+            log.warn("Failed to check the TrackLog text index: {}", e.getMessage());
+        }
+        try {
+            List<Document> batch;
+            do {
+                batch = mongoTemplate.find(legacyDocuments(), Document.class, TRACK_LOG_COLLECTION);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                rewrite(batch);
+                migrated += batch.size();
+                Thread.sleep(pauseMs);
+            } while (batch.size() == batchSize);
+            if (migrated > 0) {
+                log.info("Migrated {} track_logs to the compact layout in {} ms", migrated, System.currentTimeMillis() - started);
+            }
+            if (payloadStore.isEnabled()) {
+                externalizePayloads();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("TrackLog schema migration interrupted after {} documents", migrated);
+        } catch (Exception e) {
+            log.error("TrackLog schema migration failed after {} documents", migrated, e);
+        }
+    }
+
+    private void checkTextIndex() {
+        IndexInfo stale = null;
+        for (IndexInfo index : mongoTemplate.indexOps(TRACK_LOG_COLLECTION).getIndexInfo()) {
+            if (index.getIndexFields().stream().noneMatch(IndexField::isText)) {
+                continue;
+            }
+            Set<String> fields = index.getIndexFields().stream().map(IndexField::getKey).collect(Collectors.toSet());
+            if (fields.contains(SENTENCE_FIELD) && fields.contains(LEGACY_SENTENCE_FIELD)) {
+                return;
+            }
+            stale = index;
+        }
+        if (stale != null && !rebuildTextIndex) {
+            log.warn("Text index {} on {} does not cover {} and {}; word search falls back to it while the word index is "
+                            + "not serving. Replace it with track.storage.migration.rebuild-text-index=true in a maintenance window",
+                    stale.getName(), TRACK_LOG_COLLECTION, SENTENCE_FIELD, LEGACY_SENTENCE_FIELD);
+            return;
+        }
+        if (stale != null) {
+            log.info("Dropping text index {} on {}; $text queries fail until {} is built", stale.getName(), TRACK_LOG_COLLECTION, TEXT_INDEX_NAME);
+            mongoTemplate.indexOps(TRACK_LOG_COLLECTION).dropIndex(stale.getName());
+        }
+        mongoTemplate.indexOps(TRACK_LOG_COLLECTION).createIndex(TextIndexDefinition.builder()
+                .onField(SENTENCE_FIELD)
+                .onField(LEGACY_SENTENCE_FIELD)
+                .named(TEXT_INDEX_NAME)
+                .build());
+        log.info("Text index {} on {}.{} and {} is in place", TEXT_INDEX_NAME, TRACK_LOG_COLLECTION, SENTENCE_FIELD, LEGACY_SENTENCE_FIELD);
+    }
+
+    private void externalizePayloads() throws InterruptedException {
+        long started = System.currentTimeMillis();
+        long externalized = 0;
+        List<Document> batch;
+        do {
+            batch = mongoTemplate.find(inlinePayloadDocuments(), Document.class, TRACK_LOG_COLLECTION);
+            if (batch.isEmpty()) {
+                break;
+            }
+            externalize(batch);
+            externalized += batch.size();
+            Thread.sleep(pauseMs);
+        } while (batch.size() == batchSize);
+        if (externalized > 0) {
+            log.info("Moved the bodies of {} track_logs into shared payloads in {} ms", externalized, System.currentTimeMillis() - started);
+        }
+    }
+
+    private Query inlinePayloadDocuments() {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where(PAYLOAD_HASH_FIELD).exists(false),
+                new Criteria().orOperator(
+                        Criteria.where(REQUEST_BODY_FIELD).exists(true),
+                        Criteria.where(RESPONSE_BODY_FIELD).exists(true))))
+                .limit(batchSize);
+        query.fields().include(REQUEST_BODY_FIELD).include(RESPONSE_BODY_FIELD);
+        return query;
+    }
+
+    private void externalize(List<Document> batch) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        List<WriteModel<Document>> updates = new ArrayList<>(batch.size());
+        for (Document inline : batch) {
+            TrackLogDocument doc = converter.read(TrackLogDocument.class, inline);
+            payloadStore.externalize(doc);
+            // Bodies that are not documents carry nothing to keep and are dropped, so the batch cannot match again
+            updates.add(new UpdateOneModel<>(eq(ID_FIELD, inline.get(ID_FIELD)), doc.getPayloadHash() == null
+                    ? Updates.combine(Updates.unset(REQUEST_BODY_FIELD), Updates.unset(RESPONSE_BODY_FIELD))
+                    : Updates.combine(Updates.set(PAYLOAD_HASH_FIELD, doc.getPayloadHash()),
+                            Updates.unset(REQUEST_BODY_FIELD), Updates.unset(RESPONSE_BODY_FIELD))));
+        }
+        bulkWrite("externalize_payloads", updates);
+    }
+
+    private Query legacyDocuments() {
+        return new Query(new Criteria().orOperator(
+                Criteria.where(LEGACY_SERVICE_NAME_FIELD).exists(true),
+                Criteria.where(LEGACY_REQUEST_BODY_FIELD).exists(true),
+                Criteria.where(LEGACY_REQUEST_TS_FIELD).exists(true)))
+                .limit(batchSize);
+    }
+
+    private void rewrite(List<Document> batch) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        List<WriteModel<Document>> replacements = new ArrayList<>(batch.size());
+        for (Document legacy : batch) {
+            TrackLogDocument doc = converter.read(TrackLogDocument.class, legacy);
+            Document compact = new Document();
+            converter.write(doc, compact);
+            // Keep the original _id value and type rather than the string form held by the entity
+            compact.put(ID_FIELD, legacy.get(ID_FIELD));
+            replacements.add(new ReplaceOneModel<>(eq(ID_FIELD, legacy.get(ID_FIELD)), compact));
+        }
+        bulkWrite("compact_layout", replacements);
+    }
+
+    private void bulkWrite(String operation, List<WriteModel<Document>> models) {
+        BulkWriteEvent event = BulkWriteEvent.start(TRACK_LOG_COLLECTION, operation, models.size());
+        try {
+            BulkWriteResult result = mongoTemplate.getCollection(TRACK_LOG_COLLECTION).bulkWrite(models);
+            event.finish(result.getModifiedCount(), OUTCOME_SUCCESS);
+        } catch (RuntimeException e) {
+            event.finish(0, OUTCOME_EXCEPTION);
+            throw e;
+        }
+    }
+}
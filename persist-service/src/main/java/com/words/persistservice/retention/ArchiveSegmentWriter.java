@@ -0,0 +1,61 @@
+package com.words.persistservice.retention;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static com.words.basesdk.util.BaseSDKConstants.ARCHIVE_SEGMENT_PREFIX;
+import static com.words.basesdk.util.BaseSDKConstants.ARCHIVE_SEGMENT_SUFFIX;
+
+/**
+ * Writes gzip-compressed NDJSON segments laid out as {@code yyyy/MM/dd/track_logs-yyyyMMddHH-<seq>.ndjson.gz},
+ * one hour partition per file. Segments are written to a temp file and moved into place so readers never see partial files.
+ */
+@Component
+public class ArchiveSegmentWriter {
+
+    private static final DateTimeFormatter DAY_DIR = DateTimeFormatter.ofPattern("yyyy/MM/dd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter HOUR = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    public Path write(Path archiveRoot, Instant partitionHour, String sequence, List<Document> docs) throws IOException {
+        Path dir = archiveRoot.resolve(DAY_DIR.format(partitionHour));
+        return write(dir.resolve(ARCHIVE_SEGMENT_PREFIX + HOUR.format(partitionHour) + "-" + sequence + ARCHIVE_SEGMENT_SUFFIX), docs);
+    }
+
+    /**
+     * Writes a segment at an explicit path, replacing any earlier segment of the same name.
+     */
+    public Path write(Path target, List<Document> docs) throws IOException {
+        Path dir = target.getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "segment", ".tmp");
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tmp.toFile());
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(fileOut, 64 * 1024), StandardCharsets.UTF_8))) {
+                for (Document doc : docs) {
+                    writer.write(doc.toJson(JSON_SETTINGS));
+                    writer.write('\n');
+                }
+                writer.flush();
+                fileOut.getFD().sync();
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,18 @@
+package com.words.persistservice.retention;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "track.retention")
+public class RetentionProperties {
+    private boolean enabled;
+    private Duration hotWindow = Duration.ofDays(30);
+    private Duration ttlGrace = Duration.ofDays(1);
+    private String archiveDir = "data/archive";
+    private int batchSize = 1000;
+}
@@ -0,0 +1,181 @@
+package com.words.persistservice.retention;
+
+import com.mongodb.client.result.DeleteResult;
+import com.words.basesdk.jfr.BulkWriteEvent;
+import com.words.basesdk.service.TrackLogPayloadStore;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static com.words.basesdk.metrics.StageTimers.OUTCOME_EXCEPTION;
+import static com.words.basesdk.metrics.StageTimers.OUTCOME_SUCCESS;
+import static com.words.basesdk.model.TrackLogDocument.*;
+import static com.words.basesdk.model.TrackLogPayloadDocument.LAST_SEEN_FIELD;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_PAYLOAD_COLLECTION;
+
+/**
+ * Tiered retention for track_logs. Documents older than the hot window are copied into compressed,
+ * hour-partitioned archive segments and then deleted. A TTL index at hot window + grace is the backstop
+ * should the archiver fall behind. Deduplicated documents are archived with their payloads inlined; payloads
+ * expire once no writer has referenced them for the hot window plus grace and touch interval.
+ * Batches are read in {@code _id} order and their segments are named after the first {@code _id}, so a batch
+ * retried after a failed delete overwrites its segments instead of adding duplicates.
+ * Run it on a single persist-service replica; concurrent archivers would write duplicate segments.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "track.retention.enabled", havingValue = "true")
+public class TrackLogArchiver {
+
+    private static final String TTL_INDEX_SUFFIX = "_ttl";
+    private static final Pattern SEGMENT_UNSAFE_CHARS = Pattern.compile("[^A-Za-z0-9_-]");
+
+    private final MongoTemplate mongoTemplate;
+    private final ArchiveSegmentWriter segmentWriter;
+    private final RetentionProperties properties;
+    private final TrackLogPayloadStore payloadStore;
+
+    /**
+     * The scheduled archive run keeps this bean eager under lazy initialization; the Mongo-backed dependencies are
+     * resolved on first use.
+     */
+    public TrackLogArchiver(@Lazy MongoTemplate mongoTemplate, ArchiveSegmentWriter segmentWriter,
+                            RetentionProperties properties, @Lazy TrackLogPayloadStore payloadStore) {
+        this.mongoTemplate = mongoTemplate;
+        this.segmentWriter = segmentWriter;
+        this.properties = properties;
+        this.payloadStore = payloadStore;
+    }
+
+    /**
+     * TTL on the compact request timestamp, plus the legacy field until the schema migration has run,
+     * and on the payload last-seen time in dedup mode.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTtlIndex() {
+        long expireAfterSeconds = properties.getHotWindow().plus(properties.getTtlGrace()).toSeconds();
+        ensureTtlIndex(TRACK_LOG_COLLECTION, REQUEST_TS_FIELD, expireAfterSeconds);
+        ensureTtlIndex(TRACK_LOG_COLLECTION, LEGACY_REQUEST_TS_FIELD, expireAfterSeconds);
+        if (payloadStore.isEnabled()) {
+            ensureTtlIndex(TRACK_LOG_PAYLOAD_COLLECTION, LAST_SEEN_FIELD,
+                    expireAfterSeconds + payloadStore.getTouchIntervalMs() / 1000);
+        }
+    }
+
+    private void ensureTtlIndex(String collection, String field, long expireAfterSeconds) {
+        String indexName = field + TTL_INDEX_SUFFIX;
+        try {
+            mongoTemplate.indexOps(collection).createIndex(new Index()
+                    .on(field, Sort.Direction.ASC)
+                    .named(indexName)
+                    .expire(expireAfterSeconds));
+        } catch (Exception e) {
+            log.info("TTL index {} exists with other options, updating expireAfterSeconds to {}", indexName, expireAfterSeconds);
+            try {
+                mongoTemplate.getDb().runCommand(new Document("collMod", collection)
+                        .append("index", new Document("name", indexName)
+                                .append("expireAfterSeconds", expireAfterSeconds)));
+            } catch (Exception collModFailure) {
+                log.warn("Failed to enforce TTL index {} on {}: {}", indexName, collection, collModFailure.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${track.retention.archive-interval-ms:600000}",
+            initialDelayString = "${track.retention.archive-interval-ms:600000}")
+    public void archiveExpired() {
+        Instant cutoff = Instant.now().minus(properties.getHotWindow());
+        Path archiveRoot = Path.of(properties.getArchiveDir());
+        long archived = 0;
+        try {
+            List<Document> batch;
+            do {
+                Date cutoffDate = Date.from(cutoff);
+                Query query = new Query(new Criteria().orOperator(
+                        Criteria.where(REQUEST_TS_FIELD).lt(cutoffDate),
+                        Criteria.where(LEGACY_REQUEST_TS_FIELD).lt(cutoffDate)))
+                        .with(Sort.by(ID_FIELD))
+                        .limit(properties.getBatchSize());
+                batch = mongoTemplate.find(query, Document.class, TRACK_LOG_COLLECTION);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                payloadStore.inline(batch);
+                writeSegments(archiveRoot, batch);
+                List<Object> ids = batch.stream().map(doc -> doc.get(ID_FIELD)).toList();
+                deleteArchived(ids);
+                archived += batch.size();
+            } while (batch.size() == properties.getBatchSize());
+        } catch (Exception e) {
+            log.error("Archiving track_logs older than {} failed after {} documents", cutoff, archived, e);
+            return;
+        }
+        if (archived > 0) {
+            log.info("Archived {} track_logs older than {} into {}", archived, cutoff, archiveRoot);
+        }
+    }
+
+    /**
+     * Removes the segments already written when a later one fails; the batch is still in track_logs.
+     */
+    private void writeSegments(Path archiveRoot, List<Document> batch) throws IOException {
+        String sequence = SEGMENT_UNSAFE_CHARS.matcher(String.valueOf(batch.get(0).get(ID_FIELD))).replaceAll("_");
+        List<Path> written = new ArrayList<>();
+        try {
+            for (Map.Entry<Instant, List<Document>> partition : partitionByHour(batch).entrySet()) {
+                written.add(segmentWriter.write(archiveRoot, partition.getKey(), sequence, partition.getValue()));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path segment : written) {
+                try {
+                    Files.deleteIfExists(segment);
+                } catch (IOException cleanupFailure) {
+                    log.warn("Failed to remove archive segment {} of a failed batch: {}", segment, cleanupFailure.getMessage());
+                }
+            }
+            throw e;
+        }
+    }
+
+    private void deleteArchived(List<Object> ids) {
+        BulkWriteEvent event = BulkWriteEvent.start(TRACK_LOG_COLLECTION, "archive_delete", ids.size());
+        try {
+            DeleteResult result = mongoTemplate.remove(new Query(Criteria.where(ID_FIELD).in(ids)), TRACK_LOG_COLLECTION);
+            event.finish(result.getDeletedCount(), OUTCOME_SUCCESS);
+        } catch (RuntimeException e) {
+            event.finish(0, OUTCOME_EXCEPTION);
+            throw e;
+        }
+    }
+
+    private Map<Instant, List<Document>> partitionByHour(List<Document> docs) {
+        Map<Instant, List<Document>> partitions = new TreeMap<>();
+        for (Document doc : docs) {
+            Object ts = doc.get(REQUEST_TS_FIELD) != null ? doc.get(REQUEST_TS_FIELD) : doc.get(LEGACY_REQUEST_TS_FIELD);
+            Instant hour = (ts instanceof Date date ? date.toInstant() : Instant.EPOCH).truncatedTo(ChronoUnit.HOURS);
+            partitions.computeIfAbsent(hour, h -> new ArrayList<>()).add(doc);
+        }
+        return partitions;
+    }
+}
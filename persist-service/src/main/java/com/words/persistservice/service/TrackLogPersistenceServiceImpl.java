@@ -1,31 +1,96 @@
 package com.words.persistservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.basesdk.durability.DurabilityTiers;
+import com.words.basesdk.metrics.TrackLogPipelineMetrics;
 import com.words.basesdk.model.TrackLog;
 import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.service.TrackLogPayloadStore;
 import com.words.basesdk.service.TrackLogPersistenceService;
+import com.words.persistservice.live.LiveLatencyTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TrackLogPersistenceServiceImpl implements TrackLogPersistenceService {
 
     private final MongoTemplate mongoTemplate;
+    private final TrackLogRollupService rollupService;
+    private final TrackLogPipelineMetrics pipelineMetrics;
+    private final TrackLogPayloadStore payloadStore;
+    private final LiveLatencyTracker liveLatencyTracker;
+    private final DurabilityTiers durabilityTiers;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * In dedup mode word searches match payload sentences and then the TrackLogs referencing them.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePayloadIndexes() {
+        if (!payloadStore.isEnabled()) {
+            return;
+        }
+        try {
+            payloadStore.ensureIndexes();
+        } catch (Exception e) {
+            log.warn("Failed to ensure the TrackLog payload indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replayed TrackLogs are only stored; they were counted by the live windows, pipeline metrics and rollups
+     * when first consumed.
+     */
     @Override
     @Async
     public void save(TrackLog trackLog) {
+        if (!trackLog.isReplayed()) {
+            liveLatencyTracker.record(trackLog);
+        }
         try {
-            TrackLogDocument doc = TrackLogDocument.from(trackLog);
-            mongoTemplate.save(doc);
+            TrackLogDocument doc = TrackLogDocument.from(trackLog, objectMapper);
+            if (payloadStore.isEnabled()) {
+                payloadStore.externalize(doc);
+            }
+            saveInTier(doc, durabilityTiers.tierOf(trackLog.getSeverity()));
             log.debug("TrackLog saved to MongoDB: {}", trackLog.getUniqueId());
+            if (trackLog.isReplayed()) {
+                return;
+            }
+            pipelineMetrics.markPersisted(trackLog);
+            rollupService.record(trackLog);
         } catch (Exception e) {
             log.error("Failed to persist TrackLog {}", trackLog.getUniqueId(), e);
             //have a fallback mechanism here to post to a dlq topic[if time permits]
         }
     }
+
+    @Override
+    public void partitionsAssigned(Collection<Integer> partitions) {
+        rollupService.partitionsAssigned(partitions);
+    }
+
+    /**
+     * The write concern itself is applied by the template's {@link DurabilityTiers} resolver.
+     */
+    private void saveInTier(TrackLogDocument doc, String tier) {
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.save(doc);
+        } catch (RuntimeException e) {
+            durabilityTiers.recordWrite(tier, DurabilityTiers.SINK_MONGO, false, start);
+            throw e;
+        }
+        durabilityTiers.recordWrite(tier, DurabilityTiers.SINK_MONGO, true, start);
+    }
 }
@@ -0,0 +1,224 @@
+package com.words.persistservice.service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.words.basesdk.jfr.BulkWriteEvent;
+import com.words.basesdk.model.TrackLog;
+import com.words.basesdk.model.TrackLogRollupDocument;
+import com.words.basesdk.util.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.words.basesdk.metrics.StageTimers.OUTCOME_EXCEPTION;
+import static com.words.basesdk.metrics.StageTimers.OUTCOME_SUCCESS;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_ROLLUP_COLLECTION;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_ROLLUP_OFFSET_COLLECTION;
+
+/**
+ * Maintains per-bucket latency rollups next to the raw TrackLog documents so range analytics
+ * never have to scan track_logs. Recorded TrackLogs are merged into their buckets in memory and written as one
+ * bulk upsert every {@code flush-interval-ms}, followed by the highest Kafka offset flushed per partition.
+ * <p>
+ * Kafka only redelivers offsets that were not committed, so after a partition is assigned its TrackLogs at or
+ * below the flushed offset are skipped as already counted. A crash between the two writes, or a failed flush,
+ * drops those records from the rollups rather than counting them twice.
+ */
+@Slf4j
+@Service
+public class TrackLogRollupService {
+
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String OFFSET = "offset";
+    private static final long NOT_FLUSHED = -1L;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${track.rollup.enabled:true}")
+    boolean rollupEnabled;
+
+    @Value("${track.rollup.bucket-minutes:60}")
+    int bucketMinutes;
+
+    @Value("${track.kafka.topic}")
+    String topic;
+
+    // Guarded by this
+    private Map<String, PendingRollup> pending = new HashMap<>();
+    private Map<Integer, Long> pendingOffsets = new HashMap<>();
+    private final Map<Integer, Long> flushedOffsets = new HashMap<>();
+
+    /**
+     * The scheduled flush keeps this bean eager under lazy initialization; the template is resolved on first write.
+     */
+    public TrackLogRollupService(@Lazy MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        if (!rollupEnabled) {
+            return;
+        }
+        try {
+            mongoTemplate.indexOps(TrackLogRollupDocument.class).createIndex(new Index()
+                    .on("serviceName", Sort.Direction.ASC)
+                    .on("severity", Sort.Direction.ASC)
+                    .on("bucketStart", Sort.Direction.ASC)
+                    .named("service_severity_bucket"));
+            mongoTemplate.indexOps(TrackLogRollupDocument.class).createIndex(new Index()
+                    .on("bucketStart", Sort.Direction.ASC)
+                    .named("bucket_start"));
+        } catch (Exception e) {
+            log.warn("Failed to ensure rollup indexes: {}", e.getMessage());
+        }
+    }
+
+    public void record(TrackLog trackLog) {
+        if (!rollupEnabled) {
+            return;
+        }
+        String serviceName = trackLog.getServiceName() == null ? UNKNOWN : trackLog.getServiceName();
+        String severity = trackLog.getSeverity() == null ? UNKNOWN : trackLog.getSeverity();
+        Instant bucketStart = bucketStart(trackLog.getResponseTs() != null ? trackLog.getResponseTs() : Instant.now());
+        String rollupId = TrackLogRollupDocument.rollupId(serviceName, severity, bucketMinutes, bucketStart);
+        Integer partition = trackLog.getPartition();
+        Long offset = trackLog.getOffset();
+        synchronized (this) {
+            if (partition != null && offset != null) {
+                if (offset <= flushedOffsets.computeIfAbsent(partition, this::loadFlushedOffset)) {
+                    log.debug("TrackLog {} at offset {} of partition {} is already in its rollup", trackLog.getUniqueId(), offset, partition);
+                    return;
+                }
+                pendingOffsets.merge(partition, offset, Math::max);
+            }
+            pending.computeIfAbsent(rollupId, id -> new PendingRollup(serviceName, severity, bucketStart))
+                    .add(Math.max(0, trackLog.getExecutionTimeMs()));
+        }
+    }
+
+    /**
+     * Forgets the flushed offsets of newly assigned partitions; another instance may have advanced them meanwhile.
+     */
+    public synchronized void partitionsAssigned(Collection<Integer> partitions) {
+        flushedOffsets.keySet().removeAll(partitions);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${track.rollup.flush-interval-ms:1000}")
+    public void flush() {
+        Map<String, PendingRollup> rollups;
+        Map<Integer, Long> offsets;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            rollups = pending;
+            offsets = pendingOffsets;
+            pending = new HashMap<>();
+            pendingOffsets = new HashMap<>();
+        }
+        try {
+            BulkOperations upserts = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TRACK_LOG_ROLLUP_COLLECTION);
+            rollups.forEach((id, rollup) -> upserts.upsert(Query.query(Criteria.where("_id").is(id)), rollup.toUpdate(bucketMinutes)));
+            execute(upserts, TRACK_LOG_ROLLUP_COLLECTION, "rollup_upsert", rollups.size());
+            if (!offsets.isEmpty()) {
+                BulkOperations marks = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TRACK_LOG_ROLLUP_OFFSET_COLLECTION);
+                offsets.forEach((partition, offset) -> marks.upsert(Query.query(Criteria.where("_id").is(offsetId(partition))),
+                        new Update().max(OFFSET, offset)));
+                execute(marks, TRACK_LOG_ROLLUP_OFFSET_COLLECTION, "rollup_offset", offsets.size());
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush {} rollup buckets", rollups.size(), e);
+        }
+    }
+
+    private void execute(BulkOperations operations, String collection, String operation, int requests) {
+        BulkWriteEvent event = BulkWriteEvent.start(collection, operation, requests);
+        try {
+            BulkWriteResult result = operations.execute();
+            event.finish(result.getModifiedCount() + result.getUpserts().size(), OUTCOME_SUCCESS);
+        } catch (RuntimeException e) {
+            event.finish(0, OUTCOME_EXCEPTION);
+            throw e;
+        }
+    }
+
+    private long loadFlushedOffset(int partition) {
+        try {
+            Document doc = mongoTemplate.findById(offsetId(partition), Document.class, TRACK_LOG_ROLLUP_OFFSET_COLLECTION);
+            return doc == null ? NOT_FLUSHED : ((Number) doc.get(OFFSET)).longValue();
+        } catch (Exception e) {
+            log.warn("Failed to load the flushed rollup offset of partition {}, counting its TrackLogs: {}", partition, e.getMessage());
+            return NOT_FLUSHED;
+        }
+    }
+
+    private String offsetId(int partition) {
+        return topic + "|" + partition;
+    }
+
+    private Instant bucketStart(Instant ts) {
+        long bucketMs = ChronoUnit.MINUTES.getDuration().toMillis() * bucketMinutes;
+        return Instant.ofEpochMilli(ts.toEpochMilli() - Math.floorMod(ts.toEpochMilli(), bucketMs));
+    }
+
+    /**
+     * Counts of one bucket not yet written; guarded by the service lock.
+     */
+    private static final class PendingRollup {
+        private final String serviceName;
+        private final String severity;
+        private final Instant bucketStart;
+        private final Map<Integer, Long> histogram = new HashMap<>();
+        private long count;
+        private long totalMs;
+        private long maxMs;
+
+        private PendingRollup(String serviceName, String severity, Instant bucketStart) {
+            this.serviceName = serviceName;
+            this.severity = severity;
+            this.bucketStart = bucketStart;
+        }
+
+        private void add(long executionTimeMs) {
+            count++;
+            totalMs += executionTimeMs;
+            maxMs = Math.max(maxMs, executionTimeMs);
+            histogram.merge(LatencyHistogram.bucketIndex(executionTimeMs), 1L, Long::sum);
+        }
+
+        private Update toUpdate(int bucketMinutes) {
+            Update update = new Update()
+                    .setOnInsert("serviceName", serviceName)
+                    .setOnInsert("severity", severity)
+                    .setOnInsert("bucketStart", bucketStart)
+                    .setOnInsert("bucketMinutes", bucketMinutes)
+                    .inc("count", count)
+                    .inc("totalMs", totalMs)
+                    .max("maxMs", maxMs);
+            histogram.forEach((bucket, n) -> update.inc("histogram." + bucket, n));
+            return update;
+        }
+    }
+}
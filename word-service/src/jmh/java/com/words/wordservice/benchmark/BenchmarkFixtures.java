@@ -0,0 +1,153 @@
+package com.words.wordservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.basesdk.aspect.TrackAspect;
+import com.words.basesdk.configuration.JacksonConfig;
+import com.words.basesdk.durability.DurabilityProperties;
+import com.words.basesdk.durability.DurabilityTiers;
+import com.words.basesdk.durability.TieredKafkaTemplates;
+import com.words.basesdk.metrics.StageTimers;
+import com.words.basesdk.metrics.TrackLogPipelineMetrics;
+import com.words.basesdk.model.CachedBodyHttpServletRequest;
+import com.words.basesdk.validation.CertValidator;
+import com.words.basesdk.validation.SchemaValidator;
+import com.words.wordservice.controller.ReverseWordsController;
+import com.words.wordservice.reverse.ScalarSentenceReverser;
+import com.words.wordservice.service.impl.ReverseWordsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Wiring shared by the benchmarks: the real controller/aspect classes with the network edges
+ * (client certificates, Kafka) replaced by in-memory stand-ins.
+ */
+final class BenchmarkFixtures {
+
+    static final String REVERSE_SCHEMA = "schema/ReverseSentenceReq.json";
+
+    private static final String ASCII = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final String LATIN = "àáâãäåæçèéêëìíîïðñòóôõöøùúûüýþÿßœ";
+    private static final String CJK = "的一是不了人我在有他这为之大来以个中上们";
+    private static final String[] EMOJI = {"😀", "🚀", "🎉", "👍", "🔥"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return new JacksonConfig().objectMapper();
+    }
+
+    static StageTimers stageTimers() {
+        StageTimers stageTimers = new StageTimers(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(stageTimers, "enabled", true);
+        ReflectionTestUtils.setField(stageTimers, "percentileHistogram", true);
+        return stageTimers;
+    }
+
+    /**
+     * Builds a sentence of roughly {@code length} chars from words of 1-10 symbols of the given charset.
+     */
+    static String sentence(String charset, int length) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            int wordLength = 1 + random.nextInt(10);
+            for (int i = 0; i < wordLength; i++) {
+                switch (charset) {
+                    case "latin" -> sb.append(LATIN.charAt(random.nextInt(LATIN.length())));
+                    case "cjk" -> sb.append(CJK.charAt(random.nextInt(CJK.length())));
+                    case "emoji" -> sb.append(EMOJI[random.nextInt(EMOJI.length)]);
+                    default -> sb.append(ASCII.charAt(random.nextInt(ASCII.length())));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    static String reversePayload(String sentence) {
+        return "{\"sentence\":\"" + sentence + "\"}";
+    }
+
+    /**
+     * A request as the controller sees it behind RequestCachingFilterConfig, so that the body can be read twice.
+     */
+    static HttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/words/reverse");
+        request.setContentType("application/json");
+        request.setContent(body);
+        try {
+            return new CachedBodyHttpServletRequest(request);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static ReverseWordsController reverseWordsController(StageTimers stageTimers) {
+        ReverseWordsController controller = new ReverseWordsController(new ReverseWordsServiceImpl(new ScalarSentenceReverser()));
+        ReflectionTestUtils.setField(controller, "certValidator", new AcceptingCertValidator());
+        ReflectionTestUtils.setField(controller, "schemaValidator", new SchemaValidator());
+        ReflectionTestUtils.setField(controller, "stageTimers", stageTimers);
+        ReflectionTestUtils.setField(controller, "objectMapper", objectMapper());
+        return controller;
+    }
+
+    static TrackAspect trackAspect(StageTimers stageTimers) {
+        TrackAspect aspect = new TrackAspect(objectMapper(), stageTimers,
+                new TrackLogPipelineMetrics(new SimpleMeterRegistry()),
+                new DurabilityTiers(new DurabilityProperties(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(aspect, "kafkaTemplates",
+                new TieredKafkaTemplates(new DiscardingKafkaTemplate(), Map.of()));
+        ReflectionTestUtils.setField(aspect, "trackLogTopicName", "words.track.aspect");
+        return aspect;
+    }
+
+    /**
+     * Skips the X.509 checks, which need a TLS handshake to be meaningful.
+     */
+    static class AcceptingCertValidator extends CertValidator {
+        @Override
+        public boolean validateCerts(HttpServletRequest request) {
+            return true;
+        }
+    }
+
+    /**
+     * Completes every send immediately without retaining the record.
+     */
+    static class DiscardingKafkaTemplate extends KafkaTemplate<String, Object> {
+
+        private static final RecordMetadata METADATA =
+                new RecordMetadata(new TopicPartition("words.track.aspect", 0), 0, 0, 0, 0, 0);
+
+        DiscardingKafkaTemplate() {
+            super(new MockProducerFactory<>(() -> new MockProducer<>()));
+        }
+
+        @Override
+        public CompletableFuture<SendResult<String, Object>> send(String topic, Object data) {
+            return CompletableFuture.completedFuture(new SendResult<>(new ProducerRecord<>(topic, data), METADATA));
+        }
+    }
+}
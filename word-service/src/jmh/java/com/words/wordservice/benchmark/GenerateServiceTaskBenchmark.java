@@ -0,0 +1,59 @@
+package com.words.wordservice.benchmark;
+
+import com.words.basesdk.controller.BaseController;
+import com.words.basesdk.service.ServiceTask;
+import com.words.basesdk.validation.SchemaValidator;
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Body read, cert check, schema validation and Jackson binding as done for every BaseController request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenerateServiceTaskBenchmark {
+
+    @Param({"16", "1024"})
+    int length;
+
+    private final ReverseController controller = new ReverseController();
+    private final HttpServletResponse response = new MockHttpServletResponse();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(controller, "certValidator", new BenchmarkFixtures.AcceptingCertValidator());
+        ReflectionTestUtils.setField(controller, "schemaValidator", new SchemaValidator());
+        ReflectionTestUtils.setField(controller, "stageTimers", BenchmarkFixtures.stageTimers());
+        ReflectionTestUtils.setField(controller, "objectMapper", BenchmarkFixtures.objectMapper());
+        body = BenchmarkFixtures.bytes(BenchmarkFixtures.reversePayload(BenchmarkFixtures.sentence("ascii", length)));
+    }
+
+    @Benchmark
+    public ServiceTask generateServiceTask() {
+        return controller.generate(BenchmarkFixtures.request(body), response);
+    }
+
+    /**
+     * Mirrors ReverseWordsController's type arguments and schema while exposing the protected pipeline.
+     */
+    static class ReverseController extends BaseController<ReverseSentenceReq, ReverseSentenceRes> {
+
+        ServiceTask generate(HttpServletRequest request, HttpServletResponse response) {
+            return generateServiceTask(request, response);
+        }
+
+        @Override
+        protected String getValidationSchema() {
+            return BenchmarkFixtures.REVERSE_SCHEMA;
+        }
+    }
+}
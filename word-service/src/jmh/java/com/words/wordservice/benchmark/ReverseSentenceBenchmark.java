@@ -0,0 +1,38 @@
+package com.words.wordservice.benchmark;
+
+import com.words.wordservice.reverse.ScalarSentenceReverser;
+import com.words.wordservice.reverse.SentenceReverser;
+import com.words.wordservice.reverse.VectorSentenceReverser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReverseSentenceBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    int length;
+
+    @Param({"ascii", "latin", "cjk", "emoji"})
+    String charset;
+
+    @Param({"scalar", "vector"})
+    String engine;
+
+    private SentenceReverser reverser;
+    private String sentence;
+
+    @Setup
+    public void setUp() {
+        ScalarSentenceReverser scalar = new ScalarSentenceReverser();
+        reverser = "vector".equals(engine) ? new VectorSentenceReverser(scalar, 0) : scalar;
+        sentence = BenchmarkFixtures.sentence(charset, length);
+    }
+
+    @Benchmark
+    public String reverseSentence() {
+        return reverser.reverse(sentence);
+    }
+}
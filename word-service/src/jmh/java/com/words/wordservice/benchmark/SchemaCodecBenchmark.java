@@ -0,0 +1,64 @@
+package com.words.wordservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
+import com.words.schema.search.SearchWordRes;
+import com.words.schema.search.WordRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schema class binding with the generated codecs (the shared JacksonConfig mapper) against bean introspection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SchemaCodecBenchmark {
+
+    @Param({"generated", "reflective"})
+    String binding;
+
+    private ObjectMapper mapper;
+    private byte[] reverseRequest;
+    private SearchWordRes searchResponse;
+    private byte[] searchResponseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("generated".equals(binding)) {
+            mapper = BenchmarkFixtures.objectMapper();
+        } else {
+            mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+        reverseRequest = BenchmarkFixtures.bytes(BenchmarkFixtures.reversePayload(BenchmarkFixtures.sentence("ascii", 64)));
+        searchResponse = new SearchWordRes();
+        for (int i = 0; i < 100; i++) {
+            String sentence = BenchmarkFixtures.sentence("ascii", 64) + " " + i;
+            ReverseSentenceRes res = new ReverseSentenceRes();
+            res.setReversedSentence(new StringBuilder(sentence).reverse().toString());
+            searchResponse.getRecords().add(new WordRecord("word", new ReverseSentenceReq(sentence), res));
+        }
+        searchResponseJson = mapper.writeValueAsBytes(searchResponse);
+    }
+
+    @Benchmark
+    public ReverseSentenceReq readReverseRequest() throws IOException {
+        return mapper.readValue(reverseRequest, ReverseSentenceReq.class);
+    }
+
+    @Benchmark
+    public byte[] writeSearchResponse() throws IOException {
+        return mapper.writeValueAsBytes(searchResponse);
+    }
+
+    @Benchmark
+    public SearchWordRes readSearchResponse() throws IOException {
+        return mapper.readValue(searchResponseJson, SearchWordRes.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.words.wordservice.benchmark;
+
+import com.networknt.schema.ValidationMessage;
+import com.words.basesdk.validation.SchemaValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaValidatorBenchmark {
+
+    @Param({"valid", "invalid"})
+    String payloadKind;
+
+    private final SchemaValidator schemaValidator = new SchemaValidator();
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        payload = "valid".equals(payloadKind)
+                ? BenchmarkFixtures.reversePayload(BenchmarkFixtures.sentence("ascii", 64))
+                : "{\"sentene\":\"Final Testing\"}";
+    }
+
+    @Benchmark
+    public Optional<Set<ValidationMessage>> validatePayload() {
+        return schemaValidator.validatePayload(payload, BenchmarkFixtures.REVERSE_SCHEMA);
+    }
+}
@@ -0,0 +1,56 @@
+package com.words.wordservice.benchmark;
+
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.service.TrackLogPayloadStore;
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
+import com.words.schema.search.SearchWordRes;
+import com.words.wordservice.mapper.CommonResponseMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchResponseMapperBenchmark {
+
+    @Param({"1", "100"})
+    int records;
+
+    // Bodies are inline, so hydration only scans the results and never reaches Mongo
+    private final CommonResponseMapper mapper = new CommonResponseMapper(
+            new TrackLogPayloadStore(null, new SimpleMeterRegistry(), 16));
+    private List<TrackLogDocument> results;
+
+    @Setup
+    public void setUp() {
+        results = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            String sentence = BenchmarkFixtures.sentence("ascii", 64) + " " + i;
+            ReverseSentenceRes res = new ReverseSentenceRes();
+            res.setReversedSentence(new StringBuilder(sentence).reverse().toString());
+            results.add(TrackLogDocument.builder()
+                    .uniqueId("id-" + i)
+                    .serviceName("ReverseWordsService")
+                    .requestBody(new ReverseSentenceReq(sentence))
+                    .responseBody(res)
+                    .severity("INFO")
+                    .executionTimeMs(3)
+                    .requestTs(Instant.now())
+                    .responseTs(Instant.now())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public SearchWordRes mapTrackLogToSearchWordRes() {
+        SearchWordRes res = new SearchWordRes();
+        mapper.mapTrackLogToSearchWordRes(results, res, "final");
+        return res;
+    }
+}
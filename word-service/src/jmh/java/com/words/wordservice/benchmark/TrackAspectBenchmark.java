@@ -0,0 +1,60 @@
+package com.words.wordservice.benchmark;
+
+import com.words.basesdk.metrics.StageTimers;
+import com.words.wordservice.controller.ReverseWordsController;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /words/reverse with and without the @Track aspect; the difference is the tracking overhead
+ * (payload re-read and re-bind, TrackLog build, logging and the in-memory Kafka send).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrackAspectBenchmark {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private ReverseWordsController direct;
+    private ReverseWordsController tracked;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StageTimers stageTimers = BenchmarkFixtures.stageTimers();
+        direct = BenchmarkFixtures.reverseWordsController(stageTimers);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(BenchmarkFixtures.reverseWordsController(stageTimers));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(BenchmarkFixtures.trackAspect(stageTimers));
+        tracked = proxyFactory.getProxy();
+        body = BenchmarkFixtures.bytes(BenchmarkFixtures.reversePayload("Final Testing of the reverse words pipeline"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> untracked() {
+        return direct.processRequest(bind(), response);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> tracked() {
+        return tracked.processRequest(bind(), response);
+    }
+
+    private HttpServletRequest bind() {
+        HttpServletRequest request = BenchmarkFixtures.request(body);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.words.wordservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.words.basesdk.configuration.JacksonConfig;
+import com.words.basesdk.model.TrackLog;
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.schema.reverse.ReverseSentenceReq;
+import com.words.schema.reverse.ReverseSentenceRes;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrackLog to stored document conversion, for typed bodies (in-process) and the generic maps that
+ * persist-service receives from Kafka.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrackLogDocumentBenchmark {
+
+    @Param({"typed", "map"})
+    String bodyKind;
+
+    private final ObjectMapper mapper = new JacksonConfig().objectMapper();
+    private TrackLog trackLog;
+
+    @Setup
+    public void setUp() {
+        String sentence = BenchmarkFixtures.sentence("ascii", 64);
+        Object request;
+        Object response;
+        if ("typed".equals(bodyKind)) {
+            ReverseSentenceRes res = new ReverseSentenceRes();
+            res.setReversedSentence(sentence);
+            request = new ReverseSentenceReq(sentence);
+            response = res;
+        } else {
+            Map<String, Object> req = new LinkedHashMap<>();
+            req.put("sentence", sentence);
+            Map<String, Object> res = new LinkedHashMap<>();
+            res.put("reversedSentence", sentence);
+            request = req;
+            response = res;
+        }
+        trackLog = TrackLog.builder()
+                .uniqueId("bfda6186-4680-40b5-9ec6-8a46d050c4e2")
+                .serviceName("ReverseWordsService")
+                .requestBody(request)
+                .responseBody(response)
+                .requestTs(Instant.now())
+                .responseTs(Instant.now())
+                .executionTimeMs(3)
+                .severity("INFO")
+                .build();
+    }
+
+    @Benchmark
+    public TrackLogDocument from() {
+        return TrackLogDocument.from(trackLog, mapper);
+    }
+}
@@ -2,9 +2,15 @@ package com.words.wordservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.data.mongodb.autoconfigure.DataMongoReactiveAutoConfiguration;
+import org.springframework.boot.mongodb.autoconfigure.MongoReactiveAutoConfiguration;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
+import org.springframework.scheduling.annotation.EnableAsync;
 
-@SpringBootApplication(scanBasePackages = "com.words")
+// The reactive Mongo client is created by SearchConfiguration, only when reactive search is enabled
+@SpringBootApplication(scanBasePackages = "com.words",
+		exclude = {MongoReactiveAutoConfiguration.class, DataMongoReactiveAutoConfiguration.class})
+@EnableAsync
 public class WordServiceApplication extends SpringBootServletInitializer {
 	public static void main(String[] args) {
 		SpringApplication.run(WordServiceApplication.class, args);
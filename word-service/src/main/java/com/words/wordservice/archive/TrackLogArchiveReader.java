@@ -0,0 +1,114 @@
+package com.words.wordservice.archive;
+
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.util.WordTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.words.basesdk.util.BaseSDKConstants.ARCHIVE_SEGMENT_PREFIX;
+import static com.words.basesdk.util.BaseSDKConstants.ARCHIVE_SEGMENT_SUFFIX;
+
+/**
+ * Opt-in historical search over the cold archive segments written by persist-service.
+ * The archive directory must be shared with (or replicated from) the persist-service archiver.
+ * Segments are scanned newest first and the scan stops as soon as enough matches are found.
+ */
+@Slf4j
+@Component
+public class TrackLogArchiveReader {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${words.archive.enabled:false}")
+    boolean archiveEnabled;
+
+    @Value("${words.archive.dir:data/archive}")
+    String archiveDir;
+
+    @Value("${words.archive.max-segments:500}")
+    int maxSegments;
+
+    public TrackLogArchiveReader(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public boolean isEnabled() {
+        return archiveEnabled;
+    }
+
+    public List<TrackLogDocument> search(Optional<String> word, Optional<String> severity,
+                                         Set<String> excludeIds, int limit) {
+        List<TrackLogDocument> results = new ArrayList<>();
+        if (!archiveEnabled || limit <= 0) {
+            return results;
+        }
+        Set<String> words = word.map(WordTokenizer::distinctTokens).orElse(Set.of());
+        for (Path segment : listSegmentsNewestFirst()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(segment), 64 * 1024), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null && results.size() < limit) {
+                    // Segments keep whichever layout the document had when archived; the converter reads both
+                    TrackLogDocument doc = mongoTemplate.getConverter().read(TrackLogDocument.class, Document.parse(line));
+                    if (matches(doc, words, severity) && !excludeIds.contains(doc.getUniqueId())) {
+                        results.add(doc);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Skipping unreadable archive segment {}: {}", segment, e.getMessage());
+            }
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private boolean matches(TrackLogDocument doc, Set<String> words, Optional<String> severity) {
+        if (severity.filter(sev -> !sev.isBlank()).isPresent() && !severity.get().equals(doc.getSeverity())) {
+            return false;
+        }
+        if (words.isEmpty()) {
+            return true;
+        }
+        for (String token : WordTokenizer.tokenize(WordTokenizer.sentenceOf(doc.getRequestBody()))) {
+            if (words.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Path> listSegmentsNewestFirst() {
+        Path root = Path.of(archiveDir);
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(ARCHIVE_SEGMENT_PREFIX) && name.endsWith(ARCHIVE_SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .limit(maxSegments)
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list archive segments under {}: {}", root, e.getMessage());
+            return List.of();
+        }
+    }
+}
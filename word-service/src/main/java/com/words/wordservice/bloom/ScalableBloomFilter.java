@@ -0,0 +1,199 @@
+package com.words.wordservice.bloom;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bloom filter that grows by adding stages: once a stage holds its capacity, a larger one with a tighter target
+ * rate is appended, so the compound false-positive rate stays bounded however many items arrive. Items are
+ * given as 64-bit hashes and probed by double hashing. Not thread-safe.
+ */
+public class ScalableBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long initialCapacity;
+    private final double falsePositiveRate;
+    private final int growth;
+    private final double tightening;
+    private final List<Stage> stages = new ArrayList<>();
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate, int growth, double tightening) {
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.growth = growth;
+        this.tightening = tightening;
+        stages.add(Stage.sized(initialCapacity, falsePositiveRate * (1 - tightening)));
+    }
+
+    public boolean mightContain(long hash) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return false when the item may already be present, in which case nothing is added
+     */
+    public boolean add(long hash) {
+        if (mightContain(hash)) {
+            return false;
+        }
+        Stage last = stages.get(stages.size() - 1);
+        if (last.count >= last.capacity) {
+            last = Stage.sized(last.capacity * growth, last.targetRate * tightening);
+            stages.add(last);
+        }
+        last.put(hash);
+        return true;
+    }
+
+    /**
+     * Adds every item of the other filter. Stages of the same geometry are OR-ed together; any other stage is
+     * kept as an extra stage, so membership is preserved at some cost in false positives.
+     */
+    public void merge(ScalableBloomFilter other) {
+        int own = stages.size();
+        for (int i = 0; i < other.stages.size(); i++) {
+            Stage theirs = other.stages.get(i);
+            Stage ours = i < own ? stages.get(i) : null;
+            if (ours != null && ours.numBits == theirs.numBits && ours.numHashes == theirs.numHashes) {
+                for (int w = 0; w < ours.bits.length; w++) {
+                    ours.bits[w] |= theirs.bits[w];
+                }
+                ours.count += theirs.count;
+            } else {
+                Stage copy = new Stage(theirs.capacity, theirs.targetRate, theirs.numBits, theirs.numHashes);
+                System.arraycopy(theirs.bits, 0, copy.bits, 0, theirs.bits.length);
+                copy.count = theirs.count;
+                stages.add(copy);
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stage stage : stages) {
+            size += stage.count;
+        }
+        return size;
+    }
+
+    public long byteSize() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += stage.bits.length * (long) Long.BYTES;
+        }
+        return bytes;
+    }
+
+    public int stageCount() {
+        return stages.size();
+    }
+
+    /**
+     * Compound false-positive rate expected from the current fill of every stage.
+     */
+    public double expectedFalsePositiveRate() {
+        double none = 1;
+        for (Stage stage : stages) {
+            none *= 1 - stage.expectedFalsePositiveRate();
+        }
+        return 1 - none;
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(stages.size());
+        for (Stage stage : stages) {
+            out.writeLong(stage.capacity);
+            out.writeDouble(stage.targetRate);
+            out.writeLong(stage.numBits);
+            out.writeInt(stage.numHashes);
+            out.writeLong(stage.count);
+            out.writeInt(stage.bits.length);
+            for (long word : stage.bits) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    /**
+     * Restores stored stages as they were; stages added later follow the given settings.
+     */
+    public static ScalableBloomFilter readFrom(DataInputStream in, long initialCapacity, double falsePositiveRate,
+                                               int growth, double tightening) throws IOException {
+        ScalableBloomFilter filter = new ScalableBloomFilter(initialCapacity, falsePositiveRate, growth, tightening);
+        filter.stages.clear();
+        int stageCount = in.readInt();
+        for (int i = 0; i < stageCount; i++) {
+            long capacity = in.readLong();
+            double targetRate = in.readDouble();
+            long numBits = in.readLong();
+            int numHashes = in.readInt();
+            Stage stage = new Stage(capacity, targetRate, numBits, numHashes);
+            stage.count = in.readLong();
+            int length = in.readInt();
+            if (length != stage.bits.length) {
+                throw new IOException("Corrupt bloom filter stage " + i);
+            }
+            for (int w = 0; w < length; w++) {
+                stage.bits[w] = in.readLong();
+            }
+            filter.stages.add(stage);
+        }
+        return filter;
+    }
+
+    private static final class Stage {
+        private final long capacity;
+        private final double targetRate;
+        private final long numBits;
+        private final int numHashes;
+        private final long[] bits;
+        private long count;
+
+        private Stage(long capacity, double targetRate, long numBits, int numHashes) {
+            this.capacity = capacity;
+            this.targetRate = targetRate;
+            this.numBits = numBits;
+            this.numHashes = numHashes;
+            this.bits = new long[(int) ((numBits + 63) >>> 6)];
+        }
+
+        private static Stage sized(long capacity, double targetRate) {
+            long numBits = Math.max(64, (long) Math.ceil(-capacity * Math.log(targetRate) / (LN2 * LN2)));
+            int numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * LN2));
+            return new Stage(capacity, targetRate, numBits, numHashes);
+        }
+
+        private boolean mightContain(long hash) {
+            long step = (hash >>> 32) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(hash + i * step, numBits);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash) {
+            long step = (hash >>> 32) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(hash + i * step, numBits);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            count++;
+        }
+
+        private double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-numHashes * (double) count / numBits), numHashes);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.words.wordservice.bloom;
+
+import com.words.basesdk.util.WordTokenizer;
+import com.words.wordservice.configuration.WordBloomFilterProperties;
+import com.words.wordservice.util.WordHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Every normalized word ever seen in a tracked sentence, so that /words/search can answer a word nobody has
+ * sent with an empty result without querying Mongo. Words are exact tokens, so the filter only applies to
+ * searches answered by the word index, not to the stemming Mongo text fallback. Never yields false negatives for words it has seen; false
+ * positives only cost the query that would have run anyway. Lookups are tracked as {@code words.bloom.lookups}
+ * by result, and the observed false-positive rate as {@code words.bloom.false.positive.rate}.
+ */
+@Slf4j
+@Component
+public class WordBloomFilter {
+
+    public static final String LOOKUPS_METRIC = "words.bloom.lookups";
+    private static final int SNAPSHOT_MAGIC = 0x57424c4d;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final WordBloomFilterProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter absent;
+    private final Counter found;
+    private final Counter falsePositives;
+    private ScalableBloomFilter filter;
+    private long watermarkMs;
+
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    public WordBloomFilter(WordBloomFilterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.filter = newFilter();
+        this.absent = lookups(meterRegistry, "absent");
+        this.found = lookups(meterRegistry, "found");
+        this.falsePositives = lookups(meterRegistry, "false_positive");
+        Gauge.builder("words.bloom.false.positive.rate", this, WordBloomFilter::observedFalsePositiveRate)
+                .description("Share of searches for unstored words that the filter let through")
+                .register(meterRegistry);
+        Gauge.builder("words.bloom.expected.false.positive.rate", this, bloom -> bloom.read(ScalableBloomFilter::expectedFalsePositiveRate))
+                .description("False-positive rate expected from the filter's current fill")
+                .register(meterRegistry);
+        Gauge.builder("words.bloom.words", this, bloom -> bloom.read(ScalableBloomFilter::size))
+                .register(meterRegistry);
+        Gauge.builder("words.bloom.bytes", this, bloom -> bloom.read(ScalableBloomFilter::byteSize))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isServing() {
+        return properties.isEnabled() && ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public void add(String sentence, long timestampMs) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Set<String> words = WordTokenizer.distinctTokens(sentence);
+        lock.writeLock().lock();
+        try {
+            for (String word : words) {
+                dirty |= filter.add(WordHash.hash64(word));
+            }
+            watermarkMs = Math.max(watermarkMs, timestampMs);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true when no word of the search text has ever been stored, i.e. a search cannot match
+     */
+    public boolean excludes(String text) {
+        if (!isServing()) {
+            return false;
+        }
+        Set<String> words = WordTokenizer.distinctTokens(text);
+        if (words.isEmpty()) {
+            return false;
+        }
+        return !mightContainAny(words);
+    }
+
+    /**
+     * Classifies a completed unfiltered search. A search the filter let through that found nothing is counted
+     * as a false positive, which overstates the rate slightly once matching documents have expired.
+     */
+    public void recordOutcome(String text, boolean matched) {
+        if (!isServing()) {
+            return;
+        }
+        Set<String> words = WordTokenizer.distinctTokens(text);
+        if (words.isEmpty()) {
+            return;
+        }
+        if (!mightContainAny(words)) {
+            absent.increment();
+        } else if (matched) {
+            found.increment();
+        } else {
+            falsePositives.increment();
+        }
+    }
+
+    public long getWatermarkMs() {
+        lock.readLock().lock();
+        try {
+            return watermarkMs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        return (long) read(ScalableBloomFilter::size);
+    }
+
+    public void writeSnapshot(Path path) throws IOException {
+        if (!dirty) {
+            return;
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, "word-bloom", ".tmp");
+        try {
+            writeSnapshotTo(tmp);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void writeSnapshotTo(Path tmp) throws IOException {
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(watermarkMs);
+            filter.writeTo(out);
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merges a snapshot into the filter, keeping any word already added from the TrackLog stream.
+     *
+     * @return true when a compatible snapshot was loaded
+     */
+    public boolean readSnapshot(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring incompatible word bloom filter snapshot at {}", path);
+                return false;
+            }
+            long snapshotWatermarkMs = in.readLong();
+            ScalableBloomFilter loaded = ScalableBloomFilter.readFrom(in, properties.getInitialCapacity(),
+                    properties.getFalsePositiveRate(), properties.getGrowth(), properties.getTightening());
+            lock.writeLock().lock();
+            try {
+                if (filter.size() > 0) {
+                    loaded.merge(filter);
+                    dirty = true;
+                }
+                filter = loaded;
+                watermarkMs = Math.max(watermarkMs, snapshotWatermarkMs);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return true;
+    }
+
+    private boolean mightContainAny(Set<String> words) {
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                if (filter.mightContain(WordHash.hash64(word))) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double negatives = absent.count() + falsePositives.count();
+        return negatives == 0 ? 0.0 : falsePositives.count() / negatives;
+    }
+
+    private <T extends Number> double read(Function<ScalableBloomFilter, T> metric) {
+        lock.readLock().lock();
+        try {
+            return metric.apply(filter).doubleValue();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ScalableBloomFilter newFilter() {
+        return new ScalableBloomFilter(properties.getInitialCapacity(), properties.getFalsePositiveRate(),
+                properties.getGrowth(), properties.getTightening());
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUPS_METRIC)
+                .description("Searches checked against the word bloom filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
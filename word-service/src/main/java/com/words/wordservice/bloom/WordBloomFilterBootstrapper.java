@@ -0,0 +1,134 @@
+package com.words.wordservice.bloom;
+
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.service.TrackLogPayloadStore;
+import com.words.basesdk.util.WordTokenizer;
+import com.words.wordservice.configuration.WordBloomFilterProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.words.basesdk.model.TrackLogDocument.*;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
+
+/**
+ * Loads the last bloom filter snapshot, then catches up from track_logs and keeps snapshots fresh on disk.
+ * Until the catch-up finishes the filter excludes nothing, so searches are never answered from a partial filter.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "words.bloom.enabled", havingValue = "true")
+public class WordBloomFilterBootstrapper {
+
+    private final WordBloomFilter wordBloomFilter;
+    private final MongoTemplate mongoTemplate;
+    private final WordBloomFilterProperties properties;
+    private final TrackLogPayloadStore payloadStore;
+    private final WordBloomFilterKafkaListener listener;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        try {
+            loadSnapshot();
+            // Raw documents so that entries not yet migrated to the compact layout are added as well
+            Query query = new Query();
+            long watermarkMs = wordBloomFilter.getWatermarkMs();
+            if (watermarkMs > 0) {
+                Date from = new Date(watermarkMs - properties.getBootstrapOverlapMs());
+                query.addCriteria(new Criteria().orOperator(
+                        Criteria.where(REQUEST_TS_FIELD).gte(from),
+                        Criteria.where(LEGACY_REQUEST_TS_FIELD).gte(from)));
+            }
+            query.fields()
+                    .include(REQUEST_BODY_FIELD).include(REQUEST_TS_FIELD).include(PAYLOAD_HASH_FIELD)
+                    .include(LEGACY_REQUEST_BODY_FIELD).include(LEGACY_REQUEST_TS_FIELD);
+            query.cursorBatchSize(properties.getBootstrapBatchSize());
+            MongoConverter converter = mongoTemplate.getConverter();
+            List<TrackLogDocument> batch = new ArrayList<>(properties.getBootstrapBatchSize());
+            try (Stream<Document> docs = mongoTemplate.stream(query, Document.class, TRACK_LOG_COLLECTION)) {
+                docs.map(doc -> converter.read(TrackLogDocument.class, doc)).forEach(doc -> {
+                    batch.add(doc);
+                    if (batch.size() == properties.getBootstrapBatchSize()) {
+                        add(batch);
+                    }
+                });
+            }
+            add(batch);
+            wordBloomFilter.markReady();
+            log.info("Word bloom filter ready with {} words in {} ms", wordBloomFilter.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Word bloom filter bootstrap failed, every search keeps querying", e);
+        }
+    }
+
+    /**
+     * The listener starts once the snapshot is merged in and replays from its watermark, or from the overlap
+     * before now without one.
+     */
+    private void loadSnapshot() {
+        try {
+            if (wordBloomFilter.readSnapshot(snapshotPath())) {
+                log.info("Loaded word bloom filter snapshot with {} words", wordBloomFilter.size());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load word bloom filter snapshot, rebuilding from track_logs: {}", e.getMessage());
+        } finally {
+            long watermarkMs = wordBloomFilter.getWatermarkMs();
+            listener.start((watermarkMs > 0 ? watermarkMs : System.currentTimeMillis()) - properties.getBootstrapOverlapMs());
+        }
+    }
+
+    private void add(List<TrackLogDocument> batch) {
+        payloadStore.hydrate(batch);
+        for (TrackLogDocument doc : batch) {
+            wordBloomFilter.add(WordTokenizer.sentenceOf(doc.getRequestBody()), toEpochMs(doc.getRequestTs()));
+        }
+        batch.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${words.bloom.snapshot-interval-ms:300000}",
+            initialDelayString = "${words.bloom.snapshot-interval-ms:300000}")
+    @PreDestroy
+    public void snapshot() {
+        try {
+            wordBloomFilter.writeSnapshot(snapshotPath());
+        } catch (Exception e) {
+            log.warn("Failed to write word bloom filter snapshot: {}", e.getMessage());
+        }
+    }
+
+    private Path snapshotPath() {
+        return Path.of(properties.getSnapshotPath());
+    }
+
+    private static long toEpochMs(Object ts) {
+        if (ts instanceof Date date) {
+            return date.getTime();
+        }
+        if (ts instanceof Instant instant) {
+            return instant.toEpochMilli();
+        }
+        return 0L;
+    }
+}
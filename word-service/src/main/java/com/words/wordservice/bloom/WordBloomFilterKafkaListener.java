@@ -0,0 +1,64 @@
+package com.words.wordservice.bloom;
+
+import com.words.basesdk.model.TrackLog;
+import com.words.basesdk.util.WordTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the word bloom filter current. Every word-service instance holds its own filter,
+ * so each one consumes the full topic under a unique group id. Like the word index listener, it is started by
+ * {@link WordBloomFilterBootstrapper} once the snapshot is loaded and rewinds newly assigned partitions to the
+ * replay point, so words persisted after the catch-up scan are never missing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "words.bloom.enabled", havingValue = "true")
+public class WordBloomFilterKafkaListener implements ConsumerSeekAware {
+
+    static final String LISTENER_ID = "word-bloom";
+
+    private final WordBloomFilter wordBloomFilter;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final Set<TopicPartition> replayed = ConcurrentHashMap.newKeySet();
+    private volatile long replayFromMs;
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            autoStartup = "false",
+            topics = "${track.kafka.topic}",
+            groupId = "${words.bloom.consumer-group-prefix:word-service-bloom}-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeTrackLog(TrackLog trackLog) {
+        log.debug("Adding TrackLog {} to the word bloom filter", trackLog.getUniqueId());
+        long timestampMs = trackLog.getRequestTs() == null ? 0L : trackLog.getRequestTs().toEpochMilli();
+        wordBloomFilter.add(WordTokenizer.sentenceOf(trackLog.getRequestBody()), timestampMs);
+    }
+
+    void start(long replayFromMs) {
+        this.replayFromMs = replayFromMs;
+        listenerRegistry.getListenerContainer(LISTENER_ID).start();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<TopicPartition> fresh = assignments.keySet().stream().filter(replayed::add).toList();
+        if (!fresh.isEmpty()) {
+            log.info("Replaying {} partitions from {} for the word bloom filter", fresh.size(), replayFromMs);
+            callback.seekToTimestamp(fresh, replayFromMs);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.words.wordservice.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary representations offered next to JSON, written by copies of the shared Jackson 2 mapper so they carry
+ * the same modules, schema codecs and features. Search responses repeat the same service names and severities on
+ * every record, so Smile back-references shared string values instead of writing them again. The Jackson 2
+ * converters are deprecated in Spring 7; they move to Jackson 3 together with the shared mapper.
+ */
+@Configuration
+public class ContentNegotiationConfiguration {
+
+    @Bean
+    @SuppressWarnings("removal")
+    public ServerHttpMessageConvertersCustomizer binaryConverterCustomizer(ObjectMapper objectMapper) {
+        ObjectMapper smileMapper = objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+        return builder -> builder
+                .withSmileConverter(new MappingJackson2SmileHttpMessageConverter(smileMapper))
+                .withCborConverter(new MappingJackson2CborHttpMessageConverter(cborMapper));
+    }
+}
@@ -0,0 +1,84 @@
+package com.words.wordservice.configuration;
+
+import com.words.wordservice.reverse.ScalarSentenceReverser;
+import com.words.wordservice.reverse.SentenceReverser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Picks the sentence reversal engine. The vector engine needs the JVM started with
+ * {@code --add-modules jdk.incubator.vector}; without it the scalar engine is used. Before it is used, the vector
+ * engine has to reproduce the scalar output for a set of sample sentences, so a lane or platform specific bug
+ * falls back to the scalar engine instead of returning wrong reversals.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReverseProperties.class)
+public class ReverseEngineConfiguration {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    // Compiled in the vector source set; loaded by name so main compiles without the incubating module
+    static final String VECTOR_ENGINE_CLASS = "com.words.wordservice.reverse.VectorSentenceReverser";
+
+    @Bean
+    public SentenceReverser sentenceReverser(ReverseProperties properties) {
+        ScalarSentenceReverser scalar = new ScalarSentenceReverser();
+        if (properties.getEngine() != ReverseProperties.Engine.VECTOR) {
+            return scalar;
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.warn("words.reverse.engine=vector but {} is not resolved, using the scalar engine", VECTOR_MODULE);
+            return scalar;
+        }
+        SentenceReverser vector;
+        try {
+            vector = (SentenceReverser) Class.forName(VECTOR_ENGINE_CLASS)
+                    .getConstructor(SentenceReverser.class, int.class)
+                    .newInstance(scalar, properties.getVectorMinLength());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("The vector engine could not be loaded, using the scalar engine: {}", e.toString());
+            return scalar;
+        }
+        for (String sample : samples(properties.getVectorMinLength())) {
+            if (!vector.reverse(sample).equals(scalar.reverse(sample))) {
+                log.error("The vector engine differs from the scalar engine for a {} char sample, using the scalar engine",
+                        sample.length());
+                return scalar;
+            }
+        }
+        log.info("Using the vector sentence reversal engine for inputs of {}+ chars", properties.getVectorMinLength());
+        return vector;
+    }
+
+    /**
+     * ASCII sentences just above the vector threshold and well past it, with runs of spaces, words shorter
+     * and longer than any vector, and one non-ASCII char late in the input.
+     */
+    static List<String> samples(int minLength) {
+        Random random = new Random(17);
+        List<String> samples = new ArrayList<>();
+        for (int length : new int[]{minLength, minLength + 1, minLength + 63, 4 * minLength + 7, 65_536}) {
+            StringBuilder sb = new StringBuilder(length);
+            while (sb.length() < length) {
+                int word = random.nextInt(8) == 0 ? 64 + random.nextInt(200) : 1 + random.nextInt(12);
+                for (int i = 0; i < word && sb.length() < length; i++) {
+                    sb.append((char) ('!' + random.nextInt('~' - '!' + 1)));
+                }
+                for (int spaces = random.nextInt(4) == 0 ? 2 : 1; spaces > 0 && sb.length() < length; spaces--) {
+                    sb.append(' ');
+                }
+            }
+            samples.add(sb.toString());
+            samples.add(" " + sb.substring(1, sb.length() - 1) + " ");
+        }
+        String last = samples.get(samples.size() - 1);
+        samples.add(last.substring(0, last.length() - 2) + "\u00e9 ");
+        return samples;
+    }
+}
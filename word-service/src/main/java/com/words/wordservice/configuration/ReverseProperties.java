@@ -0,0 +1,17 @@
+package com.words.wordservice.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "words.reverse")
+public class ReverseProperties {
+    private Engine engine = Engine.SCALAR;
+    private int vectorMinLength = 256;
+
+    public enum Engine {
+        SCALAR, VECTOR
+    }
+}
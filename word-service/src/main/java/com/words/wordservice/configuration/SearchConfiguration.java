@@ -0,0 +1,76 @@
+package com.words.wordservice.configuration;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking search infrastructure. The reactive client gets its own, separately sized connection pool
+ * so search load cannot exhaust the connections used by the rest of the service. It is only created with
+ * {@code words.search.reactive-enabled}; Boot's own reactive Mongo auto-configuration is excluded in
+ * WordServiceApplication, so nothing else opens a reactive pool.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfiguration {
+
+    @Bean
+    public Semaphore searchPermits(SearchProperties searchProperties) {
+        return new Semaphore(searchProperties.getMaxConcurrent());
+    }
+
+    /**
+     * Applied per search query only, so writes and the rest of the service keep reading from the primary.
+     */
+    @Bean
+    public SearchReadPreference searchReadPreference(SearchProperties searchProperties) {
+        String name = searchProperties.getReadPreference();
+        if (name == null || name.isBlank()) {
+            return new SearchReadPreference(null);
+        }
+        if (searchProperties.getMaxStaleness() == null) {
+            return new SearchReadPreference(ReadPreference.valueOf(name));
+        }
+        return new SearchReadPreference(ReadPreference.valueOf(name, List.of(),
+                searchProperties.getMaxStaleness().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * @param readPreference null to keep the connection default
+     */
+    public record SearchReadPreference(ReadPreference readPreference) {
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "words.search.reactive-enabled", havingValue = "true")
+    static class ReactiveSearchConfiguration {
+
+        @Value("${spring.mongodb.database}")
+        private String databaseName;
+
+        @Bean(destroyMethod = "close")
+        public MongoClient reactiveMongoClient(MongoClientSettings mongoClientSettings, SearchProperties searchProperties) {
+            return MongoClients.create(MongoClientSettings.builder(mongoClientSettings)
+                    .applyToConnectionPoolSettings(pool -> pool.maxSize(searchProperties.getMaxConnectionPoolSize()))
+                    .build());
+        }
+
+        @Bean
+        public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient, MappingMongoConverter mappingMongoConverter) {
+            return new ReactiveMongoTemplate(new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, databaseName), mappingMongoConverter);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.words.wordservice.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "words.search")
+public class SearchProperties {
+    private boolean reactiveEnabled;
+    private int maxConcurrent = 64;
+    private int maxConnectionPoolSize = 20;
+    /**
+     * Budget of one search; every Mongo query it issues gets the remaining time as maxTimeMS.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+    /**
+     * Return the records found before the deadline, flagged partial, instead of a timeout error.
+     */
+    private boolean partialResults;
+    /**
+     * Read preference of search queries, e.g. secondaryPreferred; unset keeps the connection default.
+     */
+    private String readPreference;
+    /**
+     * Upper bound on how far a secondary serving search may lag; Mongo requires at least 90s.
+     */
+    private Duration maxStaleness;
+}
@@ -0,0 +1,35 @@
+package com.words.wordservice.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "words.top")
+public class TopWordsProperties {
+    private boolean enabled;
+    /**
+     * Counts overestimate by at most epsilon times the words in the window...
+     */
+    private double epsilon = 0.001;
+    /**
+     * ...except with probability delta. Memory per slot is ceil(e / epsilon) x ceil(ln(1 / delta)) counters.
+     */
+    private double delta = 0.01;
+    /**
+     * Candidates kept per slot; words never among them in any slot of a window cannot be reported.
+     */
+    private int heavyHitters = 200;
+    private int maxK = 100;
+    private int defaultK = 10;
+    private Duration slot = Duration.ofMinutes(1);
+    private int slots = 60;
+    private Duration defaultWindow = Duration.ofMinutes(15);
+    /**
+     * Re-reads the tracked window from Kafka on startup, as far as topic retention allows.
+     */
+    private boolean replayOnStart = true;
+}
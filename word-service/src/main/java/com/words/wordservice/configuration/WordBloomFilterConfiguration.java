@@ -0,0 +1,9 @@
+package com.words.wordservice.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WordBloomFilterProperties.class)
+public class WordBloomFilterConfiguration {
+}
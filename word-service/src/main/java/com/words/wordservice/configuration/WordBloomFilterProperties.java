@@ -0,0 +1,26 @@
+package com.words.wordservice.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "words.bloom")
+public class WordBloomFilterProperties {
+    private boolean enabled;
+    /**
+     * Words the first stage holds at {@code false-positive-rate}; each further stage holds {@code growth} times more.
+     */
+    private long initialCapacity = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private int growth = 2;
+    /**
+     * Each further stage targets this fraction of the previous stage's rate, which bounds the compound rate.
+     */
+    private double tightening = 0.5;
+    private String snapshotPath = "data/word-bloom.snapshot";
+    private long snapshotIntervalMs = 300_000;
+    private long bootstrapOverlapMs = 60_000;
+    private int bootstrapBatchSize = 1000;
+}
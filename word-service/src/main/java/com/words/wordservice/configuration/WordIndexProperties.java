@@ -0,0 +1,22 @@
+package com.words.wordservice.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "words.index")
+public class WordIndexProperties {
+    private boolean enabled;
+    private int maxDocuments = 2_000_000;
+    private int maxCandidates = 1000;
+    private String snapshotPath = "data/word-index.snapshot";
+    private long snapshotIntervalMs = 300_000;
+    private long bootstrapOverlapMs = 60_000;
+    private int bootstrapBatchSize = 1000;
+    /**
+     * Full rebuild from track_logs, dropping documents removed by retention; briefly holds two generations in memory.
+     */
+    private long rebuildIntervalMs = 21_600_000;
+}
@@ -0,0 +1,47 @@
+package com.words.wordservice.controller;
+
+import com.words.basesdk.controller.BaseController;
+import com.words.basesdk.service.ServiceTask;
+import com.words.schema.base.BaseRes;
+import com.words.schema.rollup.LatencyRollupReq;
+import com.words.schema.rollup.LatencyRollupRes;
+import com.words.wordservice.service.LatencyAnalyticsService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/words/analytics")
+@Slf4j
+public class LatencyAnalyticsController extends BaseController<LatencyRollupReq, LatencyRollupRes> {
+    final LatencyAnalyticsService latencyAnalyticsService;
+
+    public LatencyAnalyticsController(LatencyAnalyticsService latencyAnalyticsService) {
+        this.latencyAnalyticsService = latencyAnalyticsService;
+    }
+
+    @PostMapping("/latency")
+    public ResponseEntity<? extends BaseRes> processRequest(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse){
+        ServiceTask serviceTask=generateServiceTask(httpServletRequest, httpServletResponse);
+        try{
+            if (hasErrors(serviceTask)){
+                return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
+            }
+            timeServiceCall(serviceTask, () -> latencyAnalyticsService.processRequest(serviceTask));
+            return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
+
+        }catch (Exception e){
+            log.error("Internal Exception occurred while processing latency analytics request", e);
+            return ResponseEntity.status(500).body((BaseRes) serviceTask.getResponse());
+        }
+    }
+
+    @Override
+    protected String getValidationSchema() {
+        return "schema/LatencyRollupReq.json";
+    }
+}
@@ -35,7 +35,7 @@ public class ReverseWordsController extends BaseController<ReverseSentenceReq, R
             if (hasErrors(serviceTask)){
                 return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
             }
-            reverseWordsService.processRequest(serviceTask);
+            timeServiceCall(serviceTask, () -> reverseWordsService.processRequest(serviceTask));
             if (hasErrors(serviceTask)){
                 return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
             }
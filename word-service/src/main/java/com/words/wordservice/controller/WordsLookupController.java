@@ -14,6 +14,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
+import static com.words.wordservice.util.WordsServiceConstants.SEARCH_OVERLOADED_ERROR_CODE;
+import static com.words.wordservice.util.WordsServiceConstants.SEARCH_TIMEOUT_ERROR_CODE;
+
 @RestController
 @RequestMapping("/words")
 @Slf4j
@@ -25,22 +30,33 @@ public class WordsLookupController extends BaseController<SearchWordReq, SearchW
     }
 
     @PostMapping("/search")
-    public ResponseEntity<? extends BaseRes> processRequest(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse){
+    public CompletableFuture<ResponseEntity<? extends BaseRes>> processRequest(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse){
         ServiceTask serviceTask=generateServiceTask(httpServletRequest, httpServletResponse);
+        if (hasErrors(serviceTask)){
+            return CompletableFuture.completedFuture(ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse()));
+        }
         try{
-            if (hasErrors(serviceTask)){
-                return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
-            }
-            wordsLookupService.processRequest(serviceTask);
-            if (hasErrors(serviceTask)){
-                return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
-            }
-            return ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse());
-
+            return timeServiceCallAsync(serviceTask, () -> wordsLookupService.processRequestAsync(serviceTask))
+                    .<ResponseEntity<? extends BaseRes>>thenApply(ignored -> ResponseEntity.status(getHttpStatusCode(serviceTask)).body((BaseRes) serviceTask.getResponse()))
+                    .exceptionally(e -> {
+                        log.error("Internal Exception occurred while processing search words request", e);
+                        return ResponseEntity.status(500).body((BaseRes) serviceTask.getResponse());
+                    });
         }catch (Exception e){
             log.error("Internal Exception occurred while processing search words request", e);
-            return ResponseEntity.status(500).body((BaseRes) serviceTask.getResponse());
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body((BaseRes) serviceTask.getResponse()));
+        }
+    }
+
+    @Override
+    protected int getHttpStatusCode(ServiceTask serviceTask) {
+        if (serviceTask.getErrorMap().containsKey(SEARCH_OVERLOADED_ERROR_CODE)){
+            return 503;
+        }
+        if (serviceTask.getErrorMap().containsKey(SEARCH_TIMEOUT_ERROR_CODE)){
+            return 504;
         }
+        return super.getHttpStatusCode(serviceTask);
     }
 
     @Override
@@ -0,0 +1,293 @@
+package com.words.wordservice.index;
+
+import com.words.basesdk.util.WordTokenizer;
+import com.words.wordservice.configuration.WordIndexProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index from normalized sentence words to TrackLog ids.
+ * Serves /words/search lookups once bootstrapped; Mongo is then only used to hydrate the matched documents.
+ * A periodic rebuild from track_logs replaces the live segment, which drops documents removed by retention and
+ * lets a saturated index serve again once the collection fits in {@code max-documents}.
+ */
+@Slf4j
+@Component
+public class InvertedWordIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x57494458;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final WordIndexProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment live = new Segment();
+    private Segment rebuilding;
+
+    private volatile boolean ready;
+    private volatile boolean saturated;
+    private volatile boolean dirty;
+
+    public InvertedWordIndex(WordIndexProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @return true when lookups can be answered from the index; otherwise callers fall back to Mongo text search
+     */
+    public boolean isServing() {
+        return properties.isEnabled() && ready && !saturated;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Adds a document to the live index and, while a rebuild runs, to the segment being rebuilt.
+     */
+    public void add(String id, String sentence, long timestampMs) {
+        if (id == null) {
+            return;
+        }
+        Set<String> words = WordTokenizer.distinctTokens(sentence);
+        lock.writeLock().lock();
+        try {
+            if (!saturated) {
+                if (live.isFull()) {
+                    saturated = true;
+                    log.warn("Word index reached {} documents, falling back to Mongo text search until the next rebuild",
+                            properties.getMaxDocuments());
+                } else {
+                    dirty |= live.add(id, words, timestampMs);
+                }
+            }
+            if (rebuilding != null && !rebuilding.isFull()) {
+                rebuilding.add(id, words, timestampMs);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts collecting a replacement segment; live lookups keep using the current one until {@link #finishRebuild}.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Segment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addToRebuild(String id, String sentence, long timestampMs) {
+        if (id == null) {
+            return;
+        }
+        Set<String> words = WordTokenizer.distinctTokens(sentence);
+        lock.writeLock().lock();
+        try {
+            if (rebuilding != null && !rebuilding.isFull()) {
+                rebuilding.add(id, words, timestampMs);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Swaps the rebuilt segment in; the index serves again unless the rebuild itself hit {@code max-documents}.
+     */
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding == null) {
+                return;
+            }
+            live = rebuilding;
+            rebuilding = null;
+            saturated = live.isFull();
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of documents containing any word of the given text, most recently indexed first.
+     */
+    public List<String> lookup(String text, int limit) {
+        Set<String> words = WordTokenizer.distinctTokens(text);
+        lock.readLock().lock();
+        try {
+            TreeSet<Integer> ordinals = new TreeSet<>(Comparator.reverseOrder());
+            for (String word : words) {
+                PostingList list = live.postings.get(word);
+                if (list == null) {
+                    continue;
+                }
+                for (int ordinal : list.decodeNewest(limit)) {
+                    ordinals.add(ordinal);
+                    if (ordinals.size() > limit && ordinals.pollLast() == ordinal) {
+                        break;
+                    }
+                }
+            }
+            List<String> ids = new ArrayList<>(ordinals.size());
+            for (Integer ordinal : ordinals) {
+                ids.add(live.idsByOrdinal.get(ordinal));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getWatermarkMs() {
+        lock.readLock().lock();
+        try {
+            return live.watermarkMs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return live.idsByOrdinal.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeSnapshot(Path path) throws IOException {
+        if (!dirty) {
+            return;
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, "word-index", ".tmp");
+        try {
+            writeSnapshotTo(tmp);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void writeSnapshotTo(Path tmp) throws IOException {
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(live.watermarkMs);
+            out.writeInt(live.idsByOrdinal.size());
+            for (String id : live.idsByOrdinal) {
+                out.writeUTF(id);
+            }
+            out.writeInt(live.postings.size());
+            for (Map.Entry<String, PostingList> entry : live.postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads a snapshot into an empty index. Snapshot ordinals start at 0, so this must run before the
+     * TrackLog listener adds anything; {@link WordIndexBootstrapper} starts the listener afterwards.
+     *
+     * @return true when a compatible snapshot was loaded
+     */
+    public boolean readSnapshot(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        Segment loaded = new Segment();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring incompatible word index snapshot at {}", path);
+                return false;
+            }
+            loaded.watermarkMs = in.readLong();
+            int docCount = in.readInt();
+            for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                String id = in.readUTF();
+                loaded.idsByOrdinal.add(id);
+                loaded.ordinalsById.put(id, ordinal);
+            }
+            int termCount = in.readInt();
+            for (int i = 0; i < termCount; i++) {
+                loaded.postings.put(in.readUTF(), PostingList.readFrom(in));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            if (!live.idsByOrdinal.isEmpty()) {
+                throw new IllegalStateException("Word index snapshot must be loaded before documents are added");
+            }
+            live = loaded;
+            saturated = live.isFull();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Ids, postings and watermark of one generation of the index; guarded by the index lock.
+     */
+    private final class Segment {
+        private final List<String> idsByOrdinal = new ArrayList<>();
+        private final Map<String, Integer> ordinalsById = new HashMap<>();
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private long watermarkMs;
+
+        private boolean isFull() {
+            return idsByOrdinal.size() >= properties.getMaxDocuments();
+        }
+
+        /**
+         * @return false when the document was already indexed
+         */
+        private boolean add(String id, Set<String> words, long timestampMs) {
+            if (ordinalsById.containsKey(id)) {
+                return false;
+            }
+            int ordinal = idsByOrdinal.size();
+            idsByOrdinal.add(id);
+            ordinalsById.put(id, ordinal);
+            for (String word : words) {
+                postings.computeIfAbsent(word, w -> new PostingList()).add(ordinal);
+            }
+            watermarkMs = Math.max(watermarkMs, timestampMs);
+            return true;
+        }
+    }
+}
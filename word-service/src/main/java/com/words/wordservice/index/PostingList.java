@@ -0,0 +1,97 @@
+package com.words.wordservice.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Ascending list of document ordinals stored as varint-encoded gaps.
+ * Ordinals are handed out in insertion order, so appends are always monotonic.
+ */
+class PostingList {
+
+    private byte[] data;
+    private int length;
+    private int size;
+    private int last = -1;
+
+    PostingList() {
+        this.data = new byte[4];
+    }
+
+    private PostingList(byte[] data, int size, int last) {
+        this.data = data;
+        this.length = data.length;
+        this.size = size;
+        this.last = last;
+    }
+
+    void add(int ordinal) {
+        if (ordinal <= last) {
+            return;
+        }
+        int gap = ordinal - last;
+        ensureCapacity(5);
+        while ((gap & ~0x7F) != 0) {
+            data[length++] = (byte) ((gap & 0x7F) | 0x80);
+            gap >>>= 7;
+        }
+        data[length++] = (byte) gap;
+        last = ordinal;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Decodes at most {@code limit} ordinals from the tail, newest first. A varint ends at the first byte without
+     * the continuation bit, so gaps are read backwards from {@code last} without touching the older part of the list.
+     */
+    int[] decodeNewest(int limit) {
+        int[] ordinals = new int[Math.min(size, limit)];
+        int value = last;
+        int end = length;
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = value;
+            int start = end - 1;
+            while (start > 0 && (data[start - 1] & 0x80) != 0) {
+                start--;
+            }
+            int gap = 0;
+            for (int pos = end - 1; pos >= start; pos--) {
+                gap = (gap << 7) | (data[pos] & 0x7F);
+            }
+            value -= gap;
+            end = start;
+        }
+        return ordinals;
+    }
+
+    long sizeInBytes() {
+        return data.length;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        out.writeInt(last);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList readFrom(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        int last = in.readInt();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new PostingList(data, size, last);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+}
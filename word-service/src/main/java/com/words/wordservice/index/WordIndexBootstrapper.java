@@ -0,0 +1,171 @@
+package com.words.wordservice.index;
+
+import com.words.basesdk.model.TrackLogDocument;
+import com.words.basesdk.service.TrackLogPayloadStore;
+import com.words.basesdk.util.WordTokenizer;
+import com.words.wordservice.configuration.WordIndexProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.words.basesdk.model.TrackLogDocument.*;
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
+
+/**
+ * Loads the last index snapshot, starts the TrackLog listener, then catches up from track_logs and keeps
+ * snapshots fresh on disk. Every {@code rebuild-interval-ms} the index is rebuilt from a full scan.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "words.index.enabled", havingValue = "true")
+public class WordIndexBootstrapper {
+
+    private final InvertedWordIndex wordIndex;
+    private final MongoTemplate mongoTemplate;
+    private final WordIndexProperties properties;
+    private final TrackLogPayloadStore payloadStore;
+    private final WordIndexKafkaListener listener;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        try {
+            loadSnapshot();
+            long watermarkMs = wordIndex.getWatermarkMs();
+            scan(watermarkMs > 0 ? new Date(watermarkMs - properties.getBootstrapOverlapMs()) : null,
+                    doc -> wordIndex.add(doc.getUniqueId(), WordTokenizer.sentenceOf(doc.getRequestBody()), toEpochMs(doc.getRequestTs())));
+            wordIndex.markReady();
+            log.info("Word index ready with {} documents in {} ms", wordIndex.documentCount(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Word index bootstrap failed, search keeps using Mongo text queries", e);
+        }
+    }
+
+    /**
+     * The listener only starts once the snapshot is in place, since snapshot ordinals assume an empty index.
+     * It replays from the snapshot watermark, or from the overlap before now without one.
+     */
+    private void loadSnapshot() {
+        try {
+            if (wordIndex.readSnapshot(snapshotPath())) {
+                log.info("Loaded word index snapshot with {} documents", wordIndex.documentCount());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load word index snapshot, rebuilding from track_logs: {}", e.getMessage());
+        } finally {
+            long watermarkMs = wordIndex.getWatermarkMs();
+            listener.start((watermarkMs > 0 ? watermarkMs : System.currentTimeMillis()) - properties.getBootstrapOverlapMs());
+        }
+    }
+
+    /**
+     * Replaces the index with one built from the documents currently in track_logs. Documents arriving from the
+     * listener meanwhile are added to both generations.
+     */
+    @Scheduled(fixedDelayString = "${words.index.rebuild-interval-ms:21600000}",
+            initialDelayString = "${words.index.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        if (!wordIndex.isReady()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        wordIndex.beginRebuild();
+        try {
+            scan(null, doc -> wordIndex.addToRebuild(doc.getUniqueId(), WordTokenizer.sentenceOf(doc.getRequestBody()),
+                    toEpochMs(doc.getRequestTs())));
+            wordIndex.finishRebuild();
+            log.info("Rebuilt word index with {} documents in {} ms", wordIndex.documentCount(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            wordIndex.abortRebuild();
+            log.error("Word index rebuild failed, keeping the current index", e);
+        }
+    }
+
+    /**
+     * Streams track_logs, from {@code from} when given, in hydrated batches. Raw documents are read so that
+     * entries not yet migrated to the compact layout are indexed as well; deduplicated documents only
+     * reference their sentence, so each batch is hydrated before indexing.
+     */
+    private void scan(Date from, Consumer<TrackLogDocument> sink) {
+        Query query = new Query();
+        if (from != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where(REQUEST_TS_FIELD).gte(from),
+                    Criteria.where(LEGACY_REQUEST_TS_FIELD).gte(from)));
+        }
+        query.fields()
+                .include(REQUEST_BODY_FIELD).include(REQUEST_TS_FIELD).include(PAYLOAD_HASH_FIELD)
+                .include(LEGACY_REQUEST_BODY_FIELD).include(LEGACY_REQUEST_TS_FIELD);
+        query.cursorBatchSize(properties.getBootstrapBatchSize());
+        MongoConverter converter = mongoTemplate.getConverter();
+        List<TrackLogDocument> batch = new ArrayList<>(properties.getBootstrapBatchSize());
+        try (Stream<Document> docs = mongoTemplate.stream(query, Document.class, TRACK_LOG_COLLECTION)) {
+            docs.map(doc -> converter.read(TrackLogDocument.class, doc)).forEach(doc -> {
+                batch.add(doc);
+                if (batch.size() == properties.getBootstrapBatchSize()) {
+                    drain(batch, sink);
+                }
+            });
+        }
+        drain(batch, sink);
+    }
+
+    private void drain(List<TrackLogDocument> batch, Consumer<TrackLogDocument> sink) {
+        payloadStore.hydrate(batch);
+        batch.forEach(sink);
+        batch.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${words.index.snapshot-interval-ms:300000}",
+            initialDelayString = "${words.index.snapshot-interval-ms:300000}")
+    @PreDestroy
+    public void snapshot() {
+        try {
+            wordIndex.writeSnapshot(snapshotPath());
+        } catch (Exception e) {
+            log.warn("Failed to write word index snapshot: {}", e.getMessage());
+        }
+    }
+
+    private Path snapshotPath() {
+        return Path.of(properties.getSnapshotPath());
+    }
+
+    static long toEpochMs(Object ts) {
+        if (ts instanceof Date date) {
+            return date.getTime();
+        }
+        if (ts instanceof Instant instant) {
+            return instant.toEpochMilli();
+        }
+        if (ts instanceof String text) {
+            try {
+                return Instant.parse(text).toEpochMilli();
+            } catch (Exception ignored) {
+                return 0L;
+            }
+        }
+        return 0L;
+    }
+}
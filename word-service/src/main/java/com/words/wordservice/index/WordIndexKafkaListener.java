@@ -0,0 +1,70 @@
+package com.words.wordservice.index;
+
+import com.words.basesdk.metrics.TrackLogPipelineMetrics;
+import com.words.basesdk.model.TrackLog;
+import com.words.basesdk.util.WordTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the word index current. Every word-service instance holds its own index,
+ * so each one consumes the full topic under a unique group id. The container is started by
+ * {@link WordIndexBootstrapper} once the snapshot is loaded, and rewinds each newly assigned partition
+ * to the replay point it was started with, so records persisted after the catch-up scan are not missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "words.index.enabled", havingValue = "true")
+public class WordIndexKafkaListener implements ConsumerSeekAware {
+
+    static final String LISTENER_ID = "word-index";
+
+    private final InvertedWordIndex wordIndex;
+    private final TrackLogPipelineMetrics pipelineMetrics;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final Set<TopicPartition> replayed = ConcurrentHashMap.newKeySet();
+    private volatile long replayFromMs;
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            autoStartup = "false",
+            topics = "${track.kafka.topic}",
+            groupId = "${words.index.consumer-group-prefix:word-service-index}-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeTrackLog(TrackLog trackLog) {
+        log.debug("Indexing TrackLog {}", trackLog.getUniqueId());
+        long timestampMs = trackLog.getRequestTs() == null ? 0L : trackLog.getRequestTs().toEpochMilli();
+        wordIndex.add(trackLog.getUniqueId(), WordTokenizer.sentenceOf(trackLog.getRequestBody()), timestampMs);
+        pipelineMetrics.markIndexed(trackLog);
+    }
+
+    /**
+     * @param replayFromMs records from this time on are consumed again; documents already indexed are skipped by id
+     */
+    void start(long replayFromMs) {
+        this.replayFromMs = replayFromMs;
+        listenerRegistry.getListenerContainer(LISTENER_ID).start();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<TopicPartition> fresh = assignments.keySet().stream().filter(replayed::add).toList();
+        if (!fresh.isEmpty()) {
+            log.info("Replaying {} partitions from {} for the word index", fresh.size(), replayFromMs);
+            callback.seekToTimestamp(fresh, replayFromMs);
+        }
+    }
+}
@@ -1,12 +1,9 @@
 package com.words.wordservice.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.words.basesdk.model.TrackLogDocument;
-import com.words.schema.reverse.ReverseSentenceReq;
-import com.words.schema.reverse.ReverseSentenceRes;
+import com.words.basesdk.service.TrackLogPayloadStore;
 import com.words.schema.search.SearchWordRes;
 import com.words.schema.search.WordRecord;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,12 +12,19 @@ import java.util.List;
 @Component
 public class CommonResponseMapper {
 
-    @Autowired
-    private ObjectMapper objectMapper;
+    private final TrackLogPayloadStore payloadStore;
 
+    public CommonResponseMapper(TrackLogPayloadStore payloadStore) {
+        this.payloadStore = payloadStore;
+    }
+
+    /**
+     * Documents stored in dedup mode only reference their bodies, which are hydrated here before mapping.
+     */
     public void mapTrackLogToSearchWordRes(List<TrackLogDocument> results,
                                            SearchWordRes response,
                                            String word) {
+        payloadStore.hydrate(results);
 
         for (TrackLogDocument doc : results) {
             WordRecord record = new WordRecord();
@@ -29,14 +33,8 @@ public class CommonResponseMapper {
                 record.setWord(word);
             }
 
-            ReverseSentenceReq req =
-                    objectMapper.convertValue(doc.getRequestBody(), ReverseSentenceReq.class);
-
-            ReverseSentenceRes res =
-                    objectMapper.convertValue(doc.getResponseBody(), ReverseSentenceRes.class);
-
-            record.setRequest(req);
-            record.setResponse(res);
+            record.setRequest(doc.getRequestBody());
+            record.setResponse(doc.getResponseBody());
 
             response.getRecords().add(record);
         }
@@ -0,0 +1,27 @@
+package com.words.wordservice.reverse;
+
+/**
+ * Reference implementation, one char at a time. Every other engine must produce exactly its output.
+ */
+public class ScalarSentenceReverser implements SentenceReverser {
+
+    @Override
+    public String reverse(String s) {
+        StringBuilder result = new StringBuilder(s.length());
+        int start = 0;
+
+        for (int i = 0; i <= s.length(); i++) {
+            if (i == s.length() || s.charAt(i) == ' ') {
+                for (int j = i - 1; j >= start; j--) {
+                    result.append(s.charAt(j));
+                }
+                if (i < s.length()) {
+                    result.append(' ');
+                }
+                start = i + 1;
+            }
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,8 @@
+package com.words.wordservice.reverse;
+
+/**
+ * Reverses the characters of every space-separated word while keeping the words and spaces in place.
+ */
+public interface SentenceReverser {
+    String reverse(String sentence);
+}
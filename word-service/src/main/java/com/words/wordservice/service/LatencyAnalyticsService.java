@@ -0,0 +1,17 @@
+package com.words.wordservice.service;
+
+import com.words.basesdk.model.TrackLogRollupDocument;
+import com.words.basesdk.service.ServiceTask;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public interface LatencyAnalyticsService {
+    void processRequest(ServiceTask serviceTask);
+    List<TrackLogRollupDocument> findRollups(Instant from, Instant to,
+                                             Optional<String> serviceName,
+                                             Optional<String> severity);
+}
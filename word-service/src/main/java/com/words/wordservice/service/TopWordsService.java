@@ -0,0 +1,9 @@
+package com.words.wordservice.service;
+
+import com.words.basesdk.service.ServiceTask;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TopWordsService {
+    void processRequest(ServiceTask serviceTask);
+}
@@ -7,10 +7,12 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public  interface WordsLookupService {
     void processRequest(ServiceTask serviceTask);
+    CompletableFuture<Void> processRequestAsync(ServiceTask serviceTask);
     List<TrackLogDocument> searchTrackLogs(Optional<String> word,
                                            Optional<Boolean> getAllRecords,
                                            Optional<String> severity, ServiceTask serviceTask);
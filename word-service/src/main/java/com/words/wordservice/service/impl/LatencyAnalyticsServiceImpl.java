@@ -0,0 +1,108 @@
+package com.words.wordservice.service.impl;
+
+import com.words.basesdk.model.TrackLogRollupDocument;
+import com.words.basesdk.service.ServiceTask;
+import com.words.basesdk.util.LatencyHistogram;
+import com.words.schema.rollup.LatencyRollupReq;
+import com.words.schema.rollup.LatencyRollupRes;
+import com.words.schema.rollup.LatencyStats;
+import com.words.wordservice.service.LatencyAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+
+import static com.words.wordservice.util.WordsServiceConstants.*;
+
+/**
+ * Answers latency range queries by merging pre-aggregated rollup histograms,
+ * so cost grows with the number of buckets in range rather than the number of requests.
+ */
+@Service
+public class LatencyAnalyticsServiceImpl implements LatencyAnalyticsService {
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Value("${words.analytics.max-buckets:10000}")
+    int maxBuckets;
+
+    @Override
+    public void processRequest(ServiceTask serviceTask) {
+        LatencyRollupReq req = (LatencyRollupReq) serviceTask.getRequest();
+        LatencyRollupRes res = (LatencyRollupRes) serviceTask.getResponse();
+        Instant from = req.getFrom().toInstant();
+        Instant to = req.getTo().toInstant();
+        if (!from.isBefore(to)) {
+            res.getErrors().add(new com.words.schema.base.Error(INVALID_RANGE_ERROR_CODE, "from must be before to"));
+            return;
+        }
+        String severity = req.getSeverity() == null ? null : req.getSeverity().value();
+        List<TrackLogRollupDocument> rollups = findRollups(from, to,
+                Optional.ofNullable(req.getServiceName()), Optional.ofNullable(severity));
+        if (rollups.isEmpty()) {
+            res.getErrors().add(new com.words.schema.base.Error(EMPTY_RESULT_ERROR_CODE, "No records found matching the criteria"));
+            return;
+        }
+        if (rollups.size() > maxBuckets) {
+            rollups = rollups.subList(0, maxBuckets);
+            res.setTruncated(true);
+        }
+
+        Map<String, TrackLogRollupDocument> totals = new LinkedHashMap<>();
+        for (TrackLogRollupDocument rollup : rollups) {
+            res.getBuckets().add(toStats(rollup, true));
+            TrackLogRollupDocument total = totals.computeIfAbsent(rollup.getServiceName() + "|" + rollup.getSeverity(),
+                    key -> TrackLogRollupDocument.builder()
+                            .serviceName(rollup.getServiceName())
+                            .severity(rollup.getSeverity())
+                            .histogram(new HashMap<>())
+                            .build());
+            total.setCount(total.getCount() + rollup.getCount());
+            total.setTotalMs(total.getTotalMs() + rollup.getTotalMs());
+            total.setMaxMs(Math.max(total.getMaxMs(), rollup.getMaxMs()));
+            LatencyHistogram.merge(total.getHistogram(), rollup.getHistogram());
+        }
+        totals.values().forEach(total -> res.getTotals().add(toStats(total, false)));
+    }
+
+    /**
+     * Returns at most one bucket more than {@code max-buckets}, so callers can tell a truncated range.
+     */
+    @Override
+    public List<TrackLogRollupDocument> findRollups(Instant from, Instant to,
+                                                    Optional<String> serviceName,
+                                                    Optional<String> severity) {
+        Query query = new Query(Criteria.where(BUCKET_START).gte(from).lt(to));
+        serviceName.filter(name -> !name.isBlank())
+                .ifPresent(name -> query.addCriteria(Criteria.where(SERVICE_NAME).is(name)));
+        severity.filter(sev -> !sev.isBlank())
+                .ifPresent(sev -> query.addCriteria(Criteria.where(SEVERITY).is(sev)));
+        query.with(Sort.by(BUCKET_START, SERVICE_NAME, SEVERITY));
+        query.limit(maxBuckets + 1);
+        return mongoTemplate.find(query, TrackLogRollupDocument.class);
+    }
+
+    private LatencyStats toStats(TrackLogRollupDocument rollup, boolean includeBucketStart) {
+        long[] histogram = LatencyHistogram.toArray(rollup.getHistogram());
+        LatencyStats stats = new LatencyStats()
+                .withServiceName(rollup.getServiceName())
+                .withSeverity(rollup.getSeverity())
+                .withCount(rollup.getCount())
+                .withAvgMs(rollup.getCount() == 0 ? 0d : (double) rollup.getTotalMs() / rollup.getCount())
+                .withP50Ms(LatencyHistogram.percentile(histogram, 0.50, rollup.getMaxMs()))
+                .withP95Ms(LatencyHistogram.percentile(histogram, 0.95, rollup.getMaxMs()))
+                .withP99Ms(LatencyHistogram.percentile(histogram, 0.99, rollup.getMaxMs()))
+                .withMaxMs(rollup.getMaxMs());
+        if (includeBucketStart && rollup.getBucketStart() != null) {
+            stats.setBucketStart(Date.from(rollup.getBucketStart()));
+        }
+        return stats;
+    }
+}
@@ -3,6 +3,7 @@ package com.words.wordservice.service.impl;
 import com.words.schema.base.Error;
 import com.words.schema.reverse.ReverseSentenceReq;
 import com.words.schema.reverse.ReverseSentenceRes;
+import com.words.wordservice.reverse.SentenceReverser;
 import com.words.wordservice.service.ReverseWordsService;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,13 @@ import static com.words.wordservice.util.WordsServiceConstants.BLANK_WORD_ERROR_
 
 @Service
 public class ReverseWordsServiceImpl implements ReverseWordsService {
+
+    private final SentenceReverser sentenceReverser;
+
+    public ReverseWordsServiceImpl(SentenceReverser sentenceReverser) {
+        this.sentenceReverser = sentenceReverser;
+    }
+
     @Override
     public void processRequest(com.words.basesdk.service.ServiceTask serviceTask) {
         ReverseSentenceReq reverseSentenceReq=(ReverseSentenceReq) serviceTask.getRequest();
@@ -22,22 +30,8 @@ public class ReverseWordsServiceImpl implements ReverseWordsService {
         reverseSentenceRes.setReversedSentence(reverseSentence(sentence));
     }
 
-    public String reverseSentence(String s) {
-        StringBuilder result = new StringBuilder();
-        int start = 0;
-
-        for (int i = 0; i <= s.length(); i++) {
-            if (i == s.length() || s.charAt(i) == ' ') {
-                for (int j = i - 1; j >= start; j--) {
-                    result.append(s.charAt(j));
-                }
-                if (i < s.length()) {
-                    result.append(' ');
-                }
-                start = i + 1;
-            }
-        }
-
-        return result.toString();
+    @Override
+    public String reverseSentence(String sentence) {
+        return sentenceReverser.reverse(sentence);
     }
 }
@@ -0,0 +1,73 @@
+package com.words.wordservice.service.impl;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.ReadPreference;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Time budget of one search, shared by every query it issues. Once a query times out or the budget is spent,
+ * the search is marked expired and its remaining stages are skipped.
+ */
+final class SearchDeadline {
+
+    private static final Duration MIN_QUERY_TIME = Duration.ofMillis(1);
+
+    private final long deadlineNanos;
+    private volatile boolean expired;
+
+    SearchDeadline(Duration timeout) {
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    Duration remaining() {
+        Duration remaining = Duration.ofNanos(deadlineNanos - System.nanoTime());
+        return remaining.compareTo(MIN_QUERY_TIME) < 0 ? MIN_QUERY_TIME : remaining;
+    }
+
+    /**
+     * @return true, marking the search expired, when no time is left for another stage
+     */
+    boolean hasPassed() {
+        if (!expired && System.nanoTime() - deadlineNanos >= 0) {
+            expired = true;
+        }
+        return expired;
+    }
+
+    boolean isExpired() {
+        return expired;
+    }
+
+    void expire() {
+        expired = true;
+    }
+
+    /**
+     * Bounds the query by the remaining budget on the server and applies the search read preference.
+     */
+    Query scope(Query query, ReadPreference readPreference) {
+        query.maxTime(remaining());
+        if (readPreference != null) {
+            query.withReadPreference(readPreference);
+        }
+        return query;
+    }
+
+    /**
+     * Whether the failure is the server enforcing maxTimeMS or the client-side deadline, through any wrapping.
+     */
+    static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoExecutionTimeoutException
+                    || cause instanceof MongoOperationTimeoutException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
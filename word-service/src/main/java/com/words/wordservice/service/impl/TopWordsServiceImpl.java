@@ -0,0 +1,56 @@
+package com.words.wordservice.service.impl;
+
+import com.words.basesdk.service.ServiceTask;
+import com.words.schema.topk.TopWordsReq;
+import com.words.schema.topk.TopWordsRes;
+import com.words.schema.topk.WordCount;
+import com.words.wordservice.configuration.TopWordsProperties;
+import com.words.wordservice.service.TopWordsService;
+import com.words.wordservice.topk.TopWordsTracker;
+import com.words.wordservice.topk.TopWordsTracker.TopWords;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static com.words.wordservice.util.WordsServiceConstants.*;
+
+/**
+ * Answers top-K queries from the in-memory sketches of {@link TopWordsTracker} instead of scanning track_logs.
+ */
+@Service
+@RequiredArgsConstructor
+public class TopWordsServiceImpl implements TopWordsService {
+
+    private final TopWordsTracker tracker;
+    private final TopWordsProperties properties;
+
+    @Override
+    public void processRequest(ServiceTask serviceTask) {
+        TopWordsReq req = serviceTask.getRequest() == null ? new TopWordsReq() : (TopWordsReq) serviceTask.getRequest();
+        TopWordsRes res = (TopWordsRes) serviceTask.getResponse();
+        if (!properties.isEnabled()) {
+            res.getErrors().add(new com.words.schema.base.Error(TOP_WORDS_DISABLED_ERROR_CODE, "Top words tracking is disabled"));
+            return;
+        }
+        Duration window = req.getWindowMinutes() == null ? properties.getDefaultWindow() : Duration.ofMinutes(req.getWindowMinutes());
+        if (window.compareTo(tracker.trackedWindow()) > 0) {
+            res.getErrors().add(new com.words.schema.base.Error(INVALID_RANGE_ERROR_CODE,
+                    "windowMinutes must not exceed " + tracker.trackedWindow().toMinutes()));
+            return;
+        }
+        int k = Math.min(req.getK() == null ? properties.getDefaultK() : req.getK(), properties.getMaxK());
+        TopWords top = tracker.top(k, window, System.currentTimeMillis());
+        if (top.words().isEmpty()) {
+            res.getErrors().add(new com.words.schema.base.Error(EMPTY_RESULT_ERROR_CODE, "No words tracked in the window"));
+            return;
+        }
+        top.words().forEach(word -> res.getWords().add(new WordCount().withWord(word.word()).withCount(word.count())));
+        res.setWindowStart(Date.from(top.windowStart()));
+        res.setWindowEnd(Date.from(top.windowEnd()));
+        res.setTotalWords(top.totalWords());
+        res.setMaxOverestimate(top.maxOverestimate());
+        res.setConfidence(top.confidence());
+    }
+}
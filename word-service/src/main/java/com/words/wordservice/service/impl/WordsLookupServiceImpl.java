@@ -2,20 +2,39 @@ package com.words.wordservice.service.impl;
 
 import com.words.basesdk.model.TrackLogDocument;
 import com.words.basesdk.service.ServiceTask;
+import com.words.basesdk.service.TrackLogPayloadStore;
 import com.words.schema.search.SearchWordReq;
 import com.words.schema.search.SearchWordRes;
+import com.words.wordservice.archive.TrackLogArchiveReader;
+import com.words.wordservice.bloom.WordBloomFilter;
+import com.words.wordservice.configuration.SearchConfiguration.SearchReadPreference;
+import com.words.wordservice.configuration.SearchProperties;
+import com.words.wordservice.configuration.WordIndexProperties;
+import com.words.wordservice.index.InvertedWordIndex;
 import com.words.wordservice.mapper.CommonResponseMapper;
 import com.words.wordservice.service.WordsLookupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_COLLECTION;
 import static com.words.wordservice.util.WordsServiceConstants.*;
 
 @Service
@@ -24,30 +43,135 @@ public class WordsLookupServiceImpl implements WordsLookupService {
     @Autowired
     MongoTemplate mongoTemplate;
 
+    // Only present with words.search.reactive-enabled
+    @Autowired(required = false)
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    SearchProperties searchProperties;
+
+    @Autowired
+    Semaphore searchPermits;
+
+    @Autowired
+    SearchReadPreference searchReadPreference;
+
     final CommonResponseMapper commonResponseMapper;
+    final InvertedWordIndex wordIndex;
+    final WordIndexProperties wordIndexProperties;
+    final TrackLogArchiveReader archiveReader;
+    final TrackLogPayloadStore payloadStore;
+    final WordBloomFilter wordBloomFilter;
+    final Counter completedSearches;
+    final Counter partialSearches;
+    final Counter timedOutSearches;
 
-    public WordsLookupServiceImpl(CommonResponseMapper commonResponseMapper) {
+    public WordsLookupServiceImpl(CommonResponseMapper commonResponseMapper,
+                                  InvertedWordIndex wordIndex,
+                                  WordIndexProperties wordIndexProperties,
+                                  TrackLogArchiveReader archiveReader,
+                                  TrackLogPayloadStore payloadStore,
+                                  WordBloomFilter wordBloomFilter,
+                                  MeterRegistry meterRegistry) {
         this.commonResponseMapper = commonResponseMapper;
+        this.wordIndex = wordIndex;
+        this.wordIndexProperties = wordIndexProperties;
+        this.archiveReader = archiveReader;
+        this.payloadStore = payloadStore;
+        this.wordBloomFilter = wordBloomFilter;
+        this.completedSearches = searchOutcome(meterRegistry, SEARCH_OUTCOME_COMPLETED);
+        this.partialSearches = searchOutcome(meterRegistry, SEARCH_OUTCOME_PARTIAL);
+        this.timedOutSearches = searchOutcome(meterRegistry, SEARCH_OUTCOME_TIMED_OUT);
     }
 
     @Override
     public void processRequest(ServiceTask serviceTask) {
+        SearchWordReq searchWordReq=(SearchWordReq) serviceTask.getRequest();
+        if (!hasValidCriteria(serviceTask)){
+            return;
+        }
+        Optional<String> word = Optional.ofNullable(searchWordReq.getWord());
+        Optional<String> severity = severityOf(searchWordReq);
+        SearchDeadline deadline = new SearchDeadline(searchProperties.getTimeout());
+        List<TrackLogDocument> results = searchTrackLogs(word, Optional.ofNullable(searchWordReq.getGetAllRecords()), severity, serviceTask, deadline);
+        completeSearch(serviceTask, results, deadline);
+    }
+
+    /**
+     * Non-blocking variant of {@link #processRequest}: Mongo is queried through the reactive driver,
+     * so no request thread is held while the query runs. In-flight searches are capped by
+     * words.search.max-concurrent; excess requests are rejected instead of queued.
+     */
+    @Override
+    public CompletableFuture<Void> processRequestAsync(ServiceTask serviceTask) {
+        if (reactiveMongoTemplate == null) {
+            processRequest(serviceTask);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!hasValidCriteria(serviceTask)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!searchPermits.tryAcquire()) {
+            ((SearchWordRes) serviceTask.getResponse()).getErrors().add(new com.words.schema.base.Error(SEARCH_OVERLOADED_ERROR_CODE, "Too many concurrent searches, retry later"));
+            serviceTask.getErrorMap().put(SEARCH_OVERLOADED_ERROR_CODE, "Too many concurrent searches, retry later");
+            return CompletableFuture.completedFuture(null);
+        }
+        SearchWordReq searchWordReq = (SearchWordReq) serviceTask.getRequest();
+        SearchDeadline deadline = new SearchDeadline(searchProperties.getTimeout());
+        // Deferred so that a failure while building the queries still reaches doFinally and returns the permit
+        return Mono.defer(() -> searchTrackLogsReactive(Optional.ofNullable(searchWordReq.getWord()),
+                        Optional.ofNullable(searchWordReq.getGetAllRecords()), severityOf(searchWordReq), serviceTask, deadline))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(results -> completeSearch(serviceTask, results, deadline))
+                .doFinally(signal -> searchPermits.release())
+                .then()
+                .toFuture();
+    }
+
+    private boolean hasValidCriteria(ServiceTask serviceTask) {
         SearchWordReq searchWordReq=(SearchWordReq) serviceTask.getRequest();
         String word = searchWordReq.getWord();
         Boolean getAllRecords = searchWordReq.getGetAllRecords();
-        String severity= null;
-        if (!(searchWordReq.getSeverity()==null)){
-            severity= searchWordReq.getSeverity().value();
+        if ((word == null || word.isBlank()) && (getAllRecords == null || !getAllRecords)){
+            ((SearchWordRes) serviceTask.getResponse()).getErrors().add(new com.words.schema.base.Error(INVALID_CRITERIA_ERROR_CODE,"Either word must be provided or getAllRecords must be true"));
+            return false;
         }
+        return true;
+    }
 
+    private Optional<String> severityOf(SearchWordReq searchWordReq) {
+        return Optional.ofNullable(searchWordReq.getSeverity()).map(SearchWordReq.Severity::value);
+    }
+
+    /**
+     * Once the deadline has passed, the records found before it are returned flagged partial when
+     * words.search.partial-results is set; otherwise, or when there are none, the search fails with a timeout.
+     */
+    private void completeSearch(ServiceTask serviceTask, List<TrackLogDocument> results, SearchDeadline deadline) {
+        SearchWordReq searchWordReq=(SearchWordReq) serviceTask.getRequest();
         SearchWordRes searchWordRes=(SearchWordRes) serviceTask.getResponse();
-        if ((word == null || word.isBlank()) && (getAllRecords == null || !getAllRecords)){
-            ((SearchWordRes) serviceTask.getResponse()).getErrors().add(new com.words.schema.base.Error(INVALID_CRITERIA_ERROR_CODE,"Either word must be provided or getAllRecords must be true"));
-            return;
+        String word = searchWordReq.getWord();
+        if (word != null && !word.isBlank() && searchWordReq.getSeverity() == null && serviceTask.getErrorMap().isEmpty()
+                && !deadline.isExpired() && wordIndex.isServing()) {
+            wordBloomFilter.recordOutcome(word, !results.isEmpty());
+        }
+        if (Boolean.TRUE.equals(searchWordReq.getIncludeArchive()) && serviceTask.getErrorMap().isEmpty() && !deadline.hasPassed()) {
+            results = appendArchivedTrackLogs(results, Optional.ofNullable(word), severityOf(searchWordReq));
+        }
+        if (deadline.isExpired()) {
+            if (!searchProperties.isPartialResults() || results.isEmpty()) {
+                timedOutSearches.increment();
+                searchWordRes.getErrors().add(new com.words.schema.base.Error(SEARCH_TIMEOUT_ERROR_CODE, "Search deadline exceeded"));
+                serviceTask.getErrorMap().put(SEARCH_TIMEOUT_ERROR_CODE, "Search deadline exceeded");
+                return;
+            }
+            partialSearches.increment();
+            searchWordRes.setPartial(true);
+        } else {
+            completedSearches.increment();
         }
-        List<TrackLogDocument> results = searchTrackLogs(Optional.ofNullable(word), Optional.ofNullable(getAllRecords), Optional.ofNullable(severity),serviceTask);
         if (results.isEmpty()){
-            ((SearchWordRes) serviceTask.getResponse()).getErrors().add(new com.words.schema.base.Error(EMPTY_RESULT_ERROR_CODE,"No records found matching the criteria"));
+            searchWordRes.getErrors().add(new com.words.schema.base.Error(EMPTY_RESULT_ERROR_CODE,"No records found matching the criteria"));
             return;
         }
         commonResponseMapper.mapTrackLogToSearchWordRes(results, searchWordRes,word);
@@ -55,11 +179,220 @@ public class WordsLookupServiceImpl implements WordsLookupService {
 
     @Override
     public List<TrackLogDocument> searchTrackLogs(Optional<String> word, Optional<Boolean> getAllRecords, Optional<String> severity,ServiceTask serviceTask) {
+        return searchTrackLogs(word, getAllRecords, severity, serviceTask, new SearchDeadline(searchProperties.getTimeout()));
+    }
+
+    private List<TrackLogDocument> searchTrackLogs(Optional<String> word, Optional<Boolean> getAllRecords, Optional<String> severity,
+                                                   ServiceTask serviceTask, SearchDeadline deadline) {
+        List<TrackLogDocument> results = findTrackLogs(word, getAllRecords, severity, serviceTask, deadline);
+        payloadStore.hydrate(results);
+        return results;
+    }
+
+    private List<TrackLogDocument> findTrackLogs(Optional<String> word, Optional<Boolean> getAllRecords, Optional<String> severity,
+                                                 ServiceTask serviceTask, SearchDeadline deadline) {
+        if (word.filter(this::excludedByBloomFilter).isPresent()) {
+            return List.of();
+        }
+        if (word.filter(w -> !w.isBlank()).isPresent() && wordIndex.isServing()) {
+            List<String> ids = wordIndex.lookup(word.get(), wordIndexProperties.getMaxCandidates());
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            List<TrackLogDocument> indexed = sortByRank(ids, find(buildIndexedQuery(ids, severity), deadline));
+            if (!missesSeverityMatches(ids, severity, indexed) || deadline.hasPassed()) {
+                return indexed;
+            }
+        }
         Query query = buildSearchCriteria(word, getAllRecords, severity, serviceTask);
         if (!serviceTask.getErrorMap().isEmpty()){
             return List.of();
         }
-        return mongoTemplate.find(query, TrackLogDocument.class);
+        List<TrackLogDocument> results = find(query, deadline);
+        if (!searchesPayloads(word) || results.size() >= SEARCH_RESULT_LIMIT || deadline.hasPassed()) {
+            return results;
+        }
+        List<String> hashes;
+        try {
+            hashes = payloadStore.hashesMatching(word.get(), SEARCH_RESULT_LIMIT, deadline.remaining(), searchReadPreference.readPreference());
+        } catch (RuntimeException e) {
+            if (!SearchDeadline.isTimeout(e)) {
+                throw e;
+            }
+            deadline.expire();
+            return results;
+        }
+        if (hashes.isEmpty()) {
+            return results;
+        }
+        return concat(results, find(buildPayloadQuery(hashes, severity, SEARCH_RESULT_LIMIT - results.size()), deadline));
+    }
+
+    /**
+     * Streams the query within the search deadline, so that the documents received before a timeout are kept.
+     */
+    private List<TrackLogDocument> find(Query query, SearchDeadline deadline) {
+        List<TrackLogDocument> results = new ArrayList<>();
+        if (deadline.hasPassed()) {
+            return results;
+        }
+        MongoConverter converter = mongoTemplate.getConverter();
+        try (Stream<Document> docs = mongoTemplate.stream(deadline.scope(query, searchReadPreference.readPreference()),
+                Document.class, TRACK_LOG_COLLECTION)) {
+            docs.forEach(doc -> results.add(converter.read(TrackLogDocument.class, doc)));
+        } catch (RuntimeException e) {
+            if (!SearchDeadline.isTimeout(e)) {
+                throw e;
+            }
+            deadline.expire();
+        }
+        return results;
+    }
+
+    private Mono<List<TrackLogDocument>> searchTrackLogsReactive(Optional<String> word, Optional<Boolean> getAllRecords,
+                                                               Optional<String> severity, ServiceTask serviceTask,
+                                                               SearchDeadline deadline) {
+        if (word.filter(this::excludedByBloomFilter).isPresent()) {
+            return Mono.just(List.of());
+        }
+        if (word.filter(w -> !w.isBlank()).isPresent() && wordIndex.isServing()) {
+            List<String> ids = wordIndex.lookup(word.get(), wordIndexProperties.getMaxCandidates());
+            if (ids.isEmpty()) {
+                return Mono.just(List.of());
+            }
+            List<TrackLogDocument> received = Collections.synchronizedList(new ArrayList<>());
+            return withinDeadline(findReactive(buildIndexedQuery(ids, severity), deadline, received).collectList(), received, deadline)
+                    .map(results -> sortByRank(ids, results))
+                    .flatMap(indexed -> !missesSeverityMatches(ids, severity, indexed) || deadline.hasPassed() ? Mono.just(indexed)
+                            : Mono.defer(() -> searchTextReactive(word, getAllRecords, severity, serviceTask, deadline)));
+        }
+        return searchTextReactive(word, getAllRecords, severity, serviceTask, deadline);
+    }
+
+    private Mono<List<TrackLogDocument>> searchTextReactive(Optional<String> word, Optional<Boolean> getAllRecords,
+                                                          Optional<String> severity, ServiceTask serviceTask,
+                                                          SearchDeadline deadline) {
+        List<TrackLogDocument> received = Collections.synchronizedList(new ArrayList<>());
+        Query query = buildSearchCriteria(word, getAllRecords, severity, serviceTask);
+        if (!serviceTask.getErrorMap().isEmpty()){
+            return Mono.just(List.of());
+        }
+        Mono<List<TrackLogDocument>> inline = findReactive(query, deadline, received).collectList();
+        if (!searchesPayloads(word)) {
+            return withinDeadline(inline, received, deadline);
+        }
+        return withinDeadline(inline.flatMap(results -> results.size() >= SEARCH_RESULT_LIMIT ? Mono.just(results)
+                : Mono.fromCallable(() -> payloadStore.hashesMatching(word.get(), SEARCH_RESULT_LIMIT, deadline.remaining(),
+                        searchReadPreference.readPreference()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(hashes -> hashes.isEmpty() ? Mono.just(results)
+                        : findReactive(buildPayloadQuery(hashes, severity, SEARCH_RESULT_LIMIT - results.size()), deadline, received)
+                        .collectList()
+                        .map(referenced -> concat(results, referenced)))), received, deadline);
+    }
+
+    private Flux<TrackLogDocument> findReactive(Query query, SearchDeadline deadline, List<TrackLogDocument> received) {
+        MongoConverter converter = reactiveMongoTemplate.getConverter();
+        return reactiveMongoTemplate.find(deadline.scope(query, searchReadPreference.readPreference()), Document.class, TRACK_LOG_COLLECTION)
+                .map(doc -> converter.read(TrackLogDocument.class, doc))
+                .doOnNext(received::add);
+    }
+
+    /**
+     * Also bounds the search on the client, so pool and network waits count against the deadline. On timeout
+     * the documents received so far are returned and the search is marked expired.
+     */
+    private Mono<List<TrackLogDocument>> withinDeadline(Mono<List<TrackLogDocument>> search, List<TrackLogDocument> received,
+                                                        SearchDeadline deadline) {
+        return search.timeout(deadline.remaining())
+                .onErrorResume(SearchDeadline::isTimeout, e -> {
+                    deadline.expire();
+                    synchronized (received) {
+                        return Mono.just(new ArrayList<>(received));
+                    }
+                });
+    }
+
+    /**
+     * The bloom filter holds exact tokens, like the word index, so it only answers searches the index would;
+     * the Mongo text fallback stems words and could still match.
+     */
+    private boolean excludedByBloomFilter(String word) {
+        return wordIndex.isServing() && wordBloomFilter.excludes(word);
+    }
+
+    /**
+     * In dedup mode sentences live in track_log_payloads, so a word query also matches payloads and then
+     * the TrackLogs referencing them. Documents still holding inline bodies keep matching the track_logs text index.
+     */
+    private boolean searchesPayloads(Optional<String> word) {
+        return payloadStore.isEnabled() && word.filter(w -> !w.isBlank()).isPresent();
+    }
+
+    private Query buildPayloadQuery(List<String> hashes, Optional<String> severity, int limit) {
+        Query query = new Query(Criteria.where(TrackLogDocument.PAYLOAD_HASH_FIELD).in(hashes));
+        severity
+                .filter(sev -> !sev.isBlank())
+                .ifPresent(sev -> query.addCriteria(TrackLogDocument.severityIs(sev)));
+        query.limit(limit);
+        return query;
+    }
+
+    private static List<TrackLogDocument> concat(List<TrackLogDocument> first, List<TrackLogDocument> second) {
+        List<TrackLogDocument> combined = new ArrayList<>(first.size() + second.size());
+        combined.addAll(first);
+        combined.addAll(second);
+        return combined;
+    }
+
+    /**
+     * Tops up live results with matches from the cold archive, skipping documents already returned.
+     */
+    private List<TrackLogDocument> appendArchivedTrackLogs(List<TrackLogDocument> results,
+                                                           Optional<String> word, Optional<String> severity) {
+        if (!archiveReader.isEnabled() || results.size() >= SEARCH_RESULT_LIMIT) {
+            return results;
+        }
+        Set<String> seenIds = results.stream().map(TrackLogDocument::getUniqueId).collect(Collectors.toSet());
+        List<TrackLogDocument> combined = new ArrayList<>(results);
+        combined.addAll(archiveReader.search(word.filter(w -> !w.isBlank()), severity, seenIds,
+                SEARCH_RESULT_LIMIT - results.size()));
+        return combined;
+    }
+
+    /**
+     * Hydrates the ids resolved from the in-memory word index; Mongo is not asked to match words.
+     */
+    private Query buildIndexedQuery(List<String> ids, Optional<String> severity) {
+        Query query = new Query(Criteria.where(ID).in(ids));
+        severity
+                .filter(sev -> !sev.isBlank())
+                .ifPresent(sev -> query.addCriteria(TrackLogDocument.severityIs(sev)));
+        query.limit(SEARCH_RESULT_LIMIT);
+        return query;
+    }
+
+    /**
+     * The index caps candidates before Mongo applies the severity filter, so a capped lookup that comes back short
+     * may have missed older matches of that severity; such searches are answered by $text instead.
+     */
+    private boolean missesSeverityMatches(List<String> ids, Optional<String> severity, List<TrackLogDocument> results) {
+        return severity.filter(sev -> !sev.isBlank()).isPresent()
+                && ids.size() >= wordIndexProperties.getMaxCandidates()
+                && results.size() < SEARCH_RESULT_LIMIT;
+    }
+
+    /**
+     * Restores the index's most-recent-first order, which $in queries do not preserve.
+     */
+    private List<TrackLogDocument> sortByRank(List<String> ids, List<TrackLogDocument> results) {
+        Map<String, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        List<TrackLogDocument> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparing(doc -> rank.getOrDefault(doc.getUniqueId(), Integer.MAX_VALUE)));
+        return sorted;
     }
 
     @Override
@@ -84,9 +417,16 @@ public class WordsLookupServiceImpl implements WordsLookupService {
 
         severityOpt
                 .filter(sev -> !sev.isBlank())
-                .ifPresent(sev -> query.addCriteria(Criteria.where(SEVERITY).is(sev)));
+                .ifPresent(sev -> query.addCriteria(TrackLogDocument.severityIs(sev)));
 
-        query.limit(100);
+        query.limit(SEARCH_RESULT_LIMIT);
         return query;
     }
+
+    private static Counter searchOutcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(SEARCH_OUTCOME_METRIC)
+                .description("Searches by how they ended relative to their deadline")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
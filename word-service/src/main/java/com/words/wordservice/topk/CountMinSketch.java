@@ -0,0 +1,89 @@
+package com.words.wordservice.topk;
+
+import com.words.wordservice.util.WordHash;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch with conservative update. Estimates never undercount; with {@code width = ceil(e / epsilon)}
+ * and {@code depth = ceil(ln(1 / delta))} they overcount by at most {@code epsilon * total()} with probability
+ * {@code 1 - delta}. Sketches of equal dimensions can be merged by adding their counters. Not thread-safe.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    public static int widthFor(double epsilon) {
+        return (int) Math.ceil(Math.E / epsilon);
+    }
+
+    public static int depthFor(double delta) {
+        return (int) Math.ceil(Math.log(1 / delta));
+    }
+
+    /**
+     * Raises only the counters that hold the current minimum, which keeps the guarantee and tightens estimates.
+     *
+     * @return the new estimate for {@code item}
+     */
+    public long add(String item, long count) {
+        long hash = WordHash.hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(hash, row)]);
+        }
+        long updated = estimate + count;
+        for (int row = 0; row < depth; row++) {
+            int index = index(hash, row);
+            counters[index] = Math.max(counters[index], updated);
+        }
+        total += count;
+        return updated;
+    }
+
+    public long estimate(String item) {
+        long hash = WordHash.hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0L);
+        total = 0;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Row hashes are derived from one 64-bit word hash as {@code h1 + row * h2}.
+     */
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,63 @@
+package com.words.wordservice.topk;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The words with the highest sketch estimates seen so far, at most {@code capacity} of them, ordered so that
+ * the weakest candidate is evicted first. Not thread-safe.
+ */
+final class HeavyHitters {
+
+    private static final Comparator<Candidate> BY_COUNT = Comparator.<Candidate>comparingLong(c -> c.count)
+            .thenComparing(c -> c.word);
+
+    private final int capacity;
+    private final Map<String, Candidate> byWord = new HashMap<>();
+    private final TreeSet<Candidate> byCount = new TreeSet<>(BY_COUNT);
+
+    HeavyHitters(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(String word, long estimate) {
+        Candidate candidate = byWord.get(word);
+        if (candidate != null) {
+            byCount.remove(candidate);
+            candidate.count = estimate;
+            byCount.add(candidate);
+            return;
+        }
+        if (byWord.size() >= capacity) {
+            if (estimate <= byCount.first().count) {
+                return;
+            }
+            byWord.remove(byCount.pollFirst().word);
+        }
+        candidate = new Candidate(word, estimate);
+        byWord.put(word, candidate);
+        byCount.add(candidate);
+    }
+
+    Set<String> words() {
+        return byWord.keySet();
+    }
+
+    void clear() {
+        byWord.clear();
+        byCount.clear();
+    }
+
+    private static final class Candidate {
+        private final String word;
+        private long count;
+
+        private Candidate(String word, long count) {
+            this.word = word;
+            this.count = count;
+        }
+    }
+}
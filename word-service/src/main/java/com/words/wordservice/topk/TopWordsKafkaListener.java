@@ -0,0 +1,65 @@
+package com.words.wordservice.topk;
+
+import com.words.basesdk.model.TrackLog;
+import com.words.basesdk.util.WordTokenizer;
+import com.words.wordservice.configuration.TopWordsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.words.basesdk.util.BaseSDKConstants.TRACK_LOG_REPLAY_HEADER;
+
+/**
+ * Feeds {@link TopWordsTracker}. Like the word index, every instance consumes the full topic under a unique
+ * group id; on first assignment of a partition it rewinds to the start of the tracked window, so a restart
+ * does not empty it and a rebalance does not count records twice. TrackLogs re-published by the bulk exporter
+ * are skipped, as their words were counted when first consumed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "words.top.enabled", havingValue = "true")
+public class TopWordsKafkaListener implements ConsumerSeekAware {
+
+    private final TopWordsTracker tracker;
+    private final TopWordsProperties properties;
+    private final Set<TopicPartition> replayed = ConcurrentHashMap.newKeySet();
+
+    @KafkaListener(
+            topics = "${track.kafka.topic}",
+            groupId = "${words.top.consumer-group-prefix:word-service-top}-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeTrackLog(TrackLog trackLog,
+                                @Header(name = TRACK_LOG_REPLAY_HEADER, required = false) String replay) {
+        if (Boolean.parseBoolean(replay)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long timestampMs = trackLog.getRequestTs() == null ? now : trackLog.getRequestTs().toEpochMilli();
+        tracker.record(WordTokenizer.sentenceOf(trackLog.getRequestBody()), timestampMs, now);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (!properties.isReplayOnStart()) {
+            return;
+        }
+        List<TopicPartition> fresh = assignments.keySet().stream().filter(replayed::add).toList();
+        if (!fresh.isEmpty()) {
+            long from = System.currentTimeMillis() - tracker.trackedWindow().toMillis();
+            log.info("Replaying {} partitions from {} for top words", fresh.size(), from);
+            callback.seekToTimestamp(fresh, from);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.words.wordservice.topk;
+
+import com.words.basesdk.util.WordTokenizer;
+import com.words.wordservice.configuration.TopWordsProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Windowed word frequencies for {@code /words/top}. A ring of time slots each holds a {@link CountMinSketch}
+ * and its {@link HeavyHitters}; a query merges the slots of the window and ranks the union of their candidates.
+ * Memory is fixed by the slot count and sketch dimensions, and query cost does not grow with traffic.
+ */
+@Component
+public class TopWordsTracker {
+
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final TopWordsProperties properties;
+    private final long slotMs;
+    private final Slot[] slots;
+    private final CountMinSketch merged;
+
+    public TopWordsTracker(TopWordsProperties properties) {
+        this.properties = properties;
+        this.slotMs = properties.getSlot().toMillis();
+        int width = CountMinSketch.widthFor(properties.getEpsilon());
+        int depth = CountMinSketch.depthFor(properties.getDelta());
+        this.slots = new Slot[properties.isEnabled() ? properties.getSlots() : 0];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(new CountMinSketch(width, depth), new HeavyHitters(properties.getHeavyHitters()));
+        }
+        this.merged = properties.isEnabled() ? new CountMinSketch(width, depth) : null;
+    }
+
+    public Duration trackedWindow() {
+        return properties.getSlot().multipliedBy(properties.getSlots());
+    }
+
+    /**
+     * @param timestampMs when the sentence was reversed; sentences older than the tracked window are dropped
+     */
+    public synchronized void record(String sentence, long timestampMs, long nowMs) {
+        if (slots.length == 0 || sentence == null) {
+            return;
+        }
+        long epoch = Math.min(timestampMs, nowMs) / slotMs;
+        if (epoch <= nowMs / slotMs - slots.length) {
+            return;
+        }
+        Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        if (slot.epoch != epoch) {
+            if (slot.epoch > epoch) {
+                return;
+            }
+            slot.sketch.clear();
+            slot.hitters.clear();
+            slot.epoch = epoch;
+        }
+        for (String word : WordTokenizer.tokenize(sentence)) {
+            slot.hitters.offer(word, slot.sketch.add(word, 1));
+        }
+    }
+
+    public synchronized TopWords top(int k, Duration window, long nowMs) {
+        long newest = nowMs / slotMs;
+        long count = Math.min(slots.length, Math.max(1, (window.toMillis() + slotMs - 1) / slotMs));
+        long oldest = newest - count + 1;
+        Instant windowStart = Instant.ofEpochMilli(oldest * slotMs);
+        Instant windowEnd = Instant.ofEpochMilli(nowMs);
+        if (slots.length == 0) {
+            return new TopWords(List.of(), windowStart, windowEnd, 0, 0, 1 - properties.getDelta());
+        }
+        merged.clear();
+        Set<String> candidates = new HashSet<>();
+        for (long epoch = oldest; epoch <= newest; epoch++) {
+            Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+            if (slot.epoch == epoch) {
+                merged.merge(slot.sketch);
+                candidates.addAll(slot.hitters.words());
+            }
+        }
+        List<WordCount> words = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            words.add(new WordCount(candidate, merged.estimate(candidate)));
+        }
+        words.sort(Comparator.comparingLong(WordCount::count).reversed().thenComparing(WordCount::word));
+        return new TopWords(words.subList(0, Math.min(k, words.size())), windowStart, windowEnd, merged.total(),
+                (long) Math.ceil(properties.getEpsilon() * merged.total()), 1 - properties.getDelta());
+    }
+
+    public record WordCount(String word, long count) {
+    }
+
+    /**
+     * @param maxOverestimate each count exceeds the true count by at most this much, with probability {@code confidence}
+     */
+    public record TopWords(List<WordCount> words, Instant windowStart, Instant windowEnd, long totalWords,
+                           long maxOverestimate, double confidence) {
+    }
+
+    private static final class Slot {
+        private final CountMinSketch sketch;
+        private final HeavyHitters hitters;
+        private long epoch = UNUSED;
+
+        private Slot(CountMinSketch sketch, HeavyHitters hitters) {
+            this.sketch = sketch;
+            this.hitters = hitters;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.words.wordservice.util;
+
+/**
+ * 64-bit hash of a word for the probabilistic word structures. Callers derive their row or probe hashes
+ * from the two halves, so both halves must be well mixed.
+ */
+public class WordHash {
+
+    public static long hash64(String word) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // FNV-1a leaves the high bits weak for short inputs; finish with a 64-bit mix
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
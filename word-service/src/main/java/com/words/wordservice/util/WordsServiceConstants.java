@@ -7,4 +7,16 @@ public class WordsServiceConstants {
     public static final String INVALID_CRITERIA_ERROR_CODE="1006";
     public static final String EMPTY_RESULT_ERROR_CODE="1007";
     public static final String SEVERITY="severity";
+    public static final String ID="_id";
+    public static final String INVALID_RANGE_ERROR_CODE="1008";
+    public static final String SEARCH_OVERLOADED_ERROR_CODE="1009";
+    public static final String TOP_WORDS_DISABLED_ERROR_CODE="1011";
+    public static final String SEARCH_TIMEOUT_ERROR_CODE="1012";
+    public static final String SEARCH_OUTCOME_METRIC="words.search.outcome";
+    public static final String SEARCH_OUTCOME_COMPLETED="completed";
+    public static final String SEARCH_OUTCOME_PARTIAL="partial";
+    public static final String SEARCH_OUTCOME_TIMED_OUT="timed_out";
+    public static final String BUCKET_START="bucketStart";
+    public static final String SERVICE_NAME="serviceName";
+    public static final int SEARCH_RESULT_LIMIT=100;
 }
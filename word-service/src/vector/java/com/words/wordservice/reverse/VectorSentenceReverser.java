@@ -0,0 +1,110 @@
+package com.words.wordservice.reverse;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ASCII fast path on the incubating Vector API. The sentence is checked for non-ASCII a full vector at a
+ * time, then reversed on bytes instead of chars; words at least one vector long are reversed with a lane
+ * shuffle. Non-ASCII and short input goes to the fallback engine.
+ * Only load this class once {@code jdk.incubator.vector} is known to be resolved, see ReverseEngineConfiguration.
+ * Lives in the {@code vector} source set, the only one compiled with that module.
+ */
+public class VectorSentenceReverser implements SentenceReverser {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorShuffle<Byte> REVERSE = VectorShuffle.fromOp(SPECIES, i -> SPECIES.length() - 1 - i);
+    private static final byte SPACE = ' ';
+    // getBytes(ISO_8859_1) writes '?' for chars above 0xFF, so these positions are checked against the String
+    private static final byte UNMAPPABLE = '?';
+    private static final int PROBE_LENGTH = 16;
+
+    private final SentenceReverser fallback;
+    private final int minLength;
+
+    public VectorSentenceReverser(SentenceReverser fallback, int minLength) {
+        this.fallback = fallback;
+        this.minLength = Math.max(minLength, PROBE_LENGTH);
+    }
+
+    @Override
+    public String reverse(String s) {
+        if (s.length() < minLength || !asciiPrefix(s)) {
+            return fallback.reverse(s);
+        }
+        byte[] in = s.getBytes(StandardCharsets.ISO_8859_1);
+        if (!isAscii(s, in)) {
+            return fallback.reverse(s);
+        }
+        byte[] out = new byte[in.length];
+        int start = 0;
+        for (int i = 0; i <= in.length; i++) {
+            if (i == in.length || in[i] == SPACE) {
+                reverseWord(in, out, start, i);
+                if (i < in.length) {
+                    out[i] = SPACE;
+                }
+                start = i + 1;
+            }
+        }
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    // Rejects most non-Latin text before paying for the byte conversion
+    private static boolean asciiPrefix(String s) {
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            if (s.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String s, byte[] in) {
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(in.length);
+        ByteVector bits = ByteVector.zero(SPECIES);
+        VectorMask<Byte> unmappable = SPECIES.maskAll(false);
+        int i = 0;
+        for (; i < bound; i += lanes) {
+            ByteVector v = ByteVector.fromArray(SPECIES, in, i);
+            bits = bits.or(v);
+            unmappable = unmappable.or(v.eq(UNMAPPABLE));
+        }
+        boolean suspect = unmappable.anyTrue();
+        for (; i < in.length; i++) {
+            if (in[i] < 0) {
+                return false;
+            }
+            suspect |= in[i] == UNMAPPABLE;
+        }
+        if (bits.lt((byte) 0).anyTrue()) {
+            return false;
+        }
+        if (suspect) {
+            for (int j = 0; j < in.length; j++) {
+                if (in[j] == UNMAPPABLE && s.charAt(j) != UNMAPPABLE) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void reverseWord(byte[] in, byte[] out, int start, int end) {
+        int lanes = SPECIES.length();
+        int k = 0;
+        if (end - start >= lanes) {
+            for (; k + lanes <= end - start; k += lanes) {
+                ByteVector.fromArray(SPECIES, in, end - k - lanes).rearrange(REVERSE).intoArray(out, start + k);
+            }
+        }
+        for (; start + k < end; k++) {
+            out[start + k] = in[end - 1 - k];
+        }
+    }
+}